@@ -0,0 +1,53 @@
+package com.intersify.config;
+
+import com.intersify.search.IndexSnapshotStore;
+import com.intersify.search.InternshipSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Keeps the on-disk search index snapshot recent, so the next start only replays the last few
+ * minutes of changes. Nothing is written while the index is unchanged since the last snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexSnapshotJob {
+
+    private final InternshipSearchIndex searchIndex;
+    private final IndexSnapshotStore snapshotStore;
+
+    private long writtenVersion = -1;
+
+    // Run every ten minutes
+    @Scheduled(fixedDelay = 600_000, initialDelay = 60_000)
+    public void writeSnapshot() {
+        write();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void writeOnShutdown() {
+        write();
+    }
+
+    private synchronized void write() {
+        if (!searchIndex.isReady() || searchIndex.version() == writtenVersion) {
+            return;
+        }
+        long version = searchIndex.version();
+        try {
+            IndexSnapshotStore.IndexSnapshot snapshot = searchIndex.snapshot();
+            snapshotStore.write(snapshot);
+            writtenVersion = version;
+            log.info("Wrote search index snapshot of {} internships", snapshot.documents().size());
+        } catch (IOException e) {
+            log.error("Error writing search index snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.intersify.config;
+
+import com.intersify.entity.OutboxMessage;
+import com.intersify.enums.OutboxStatus;
+import com.intersify.repository.OutboxMessageRepository;
+import com.intersify.service.EmailNotificationService;
+import com.intersify.service.NotificationEnqueuedEvent;
+import com.intersify.service.WebSocketNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers the notification outbox: WebSocket pushes, then the emails of a whole batch over one SMTP
+ * connection. Kicked right after an enqueuing transaction commits and polled for retries; failed
+ * emails back off exponentially and are given up after MAX_ATTEMPTS. Sent rows are kept a week.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration FIRST_RETRY = Duration.ofSeconds(30);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final OutboxMessageRepository outboxRepository;
+    private final EmailNotificationService emailService;
+    private final WebSocketNotificationService websocketService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock draining = new ReentrantLock();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    @Async
+    @TransactionalEventListener
+    public void onEnqueued(NotificationEnqueuedEvent event) {
+        drain();
+    }
+
+    // Retries come due here, as does anything a crash left behind
+    @Scheduled(fixedDelay = 10_000)
+    public void poll() {
+        drain();
+    }
+
+    // Purge at 03:15 every day
+    @Scheduled(cron = "0 15 3 * * *")
+    public void purgeSent() {
+        try {
+            Integer purged = transactionTemplate.execute(status ->
+                    outboxRepository.deleteSentBefore(LocalDateTime.now().minus(RETENTION)));
+            log.info("Purged {} sent notifications", purged);
+        } catch (Exception e) {
+            log.error("Error purging the notification outbox", e);
+        }
+    }
+
+    // One drain at a time; a request arriving meanwhile makes the running drain go round once more
+    public void drain() {
+        requested.set(true);
+        while (requested.get() && draining.tryLock()) {
+            try {
+                requested.set(false);
+                List<OutboxMessage> batch;
+                do {
+                    batch = outboxRepository.findDue(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+                    dispatch(batch);
+                } while (batch.size() == BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("Error draining the notification outbox", e);
+            } finally {
+                draining.unlock();
+            }
+        }
+    }
+
+    private void dispatch(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<SimpleMailMessage, OutboxMessage> emails = new IdentityHashMap<>();
+        List<Long> sent = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            if (message.getAttempts() == 0) {
+                push(message);
+            }
+            if (message.getStudentEmail() == null) {
+                sent.add(message.getOutboxId());
+            } else {
+                emails.put(emailService.applicationStatusUpdateEmail(message.getStudentEmail(),
+                        message.getStudentName(), message.getInternshipTitle(), message.getCompanyName(),
+                        message.getApplicationStatus(), message.getNotes()), message);
+            }
+        }
+
+        Map<SimpleMailMessage, Exception> failures = emailService.sendAll(new ArrayList<>(emails.keySet()));
+        emails.forEach((email, message) -> {
+            if (!failures.containsKey(email)) {
+                sent.add(message.getOutboxId());
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent, now);
+            }
+            failures.forEach((email, cause) -> retryLater(emails.get(email), cause, now));
+        });
+        if (!failures.isEmpty()) {
+            log.warn("Sent {} notifications, {} emails failed and will be retried", sent.size(), failures.size());
+        }
+    }
+
+    // Pushes are best effort: only a live dashboard sees them, so a late retry would be pointless
+    private void push(OutboxMessage message) {
+        String applicationId = message.getApplicationId().toString();
+        String status = message.getApplicationStatus().toString();
+        try {
+            websocketService.sendApplicationStatusUpdate(message.getStudentId(),
+                    "Your application status has been updated to " + status, applicationId, status);
+            websocketService.broadcastToCompany(message.getCompanyId(),
+                    "Application " + applicationId + " status updated to " + status, applicationId, status);
+        } catch (Exception e) {
+            log.warn("Failed to push notification for application {}", applicationId, e);
+        }
+    }
+
+    // 30 s, 1 min, 2 min, ... until MAX_ATTEMPTS
+    private void retryLater(OutboxMessage message, Exception cause, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        OutboxStatus status = attempts >= MAX_ATTEMPTS ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+        String error = String.valueOf(cause.getMessage());
+        outboxRepository.markFailed(message.getOutboxId(), status, attempts,
+                now.plus(FIRST_RETRY.multipliedBy(1L << (attempts - 1))),
+                error.length() > 500 ? error.substring(0, 500) : error);
+    }
+}
@@ -0,0 +1,66 @@
+package com.intersify.config;
+
+import com.intersify.entity.Internship;
+import com.intersify.repository.InternshipRepository;
+import com.intersify.search.Gazetteer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Resolves the locations of internships created before place ids existed, or before the gazetteer
+ * knew their place. Same keyset-batch shape as StipendBackfillJob; locations that still resolve to
+ * no place are left null and retried on the next start, when the gazetteer may have grown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final InternshipRepository internshipRepository;
+    private final Gazetteer gazetteer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0L;
+        int resolved = 0;
+        try {
+            while (true) {
+                long from = afterId;
+                List<Internship> batch = transactionTemplate.execute(status -> {
+                    List<Internship> internships = internshipRepository.findPlaceBackfillBatch(
+                            from, PageRequest.of(0, BATCH_SIZE));
+                    for (Internship internship : internships) {
+                        gazetteer.resolve(internship.getLocation())
+                                .ifPresent(place -> internship.setPlaceId(place.id()));
+                    }
+                    return internships;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                resolved += (int) batch.stream().filter(i -> i.getPlaceId() != null).count();
+                afterId = batch.get(batch.size() - 1).getInternshipId();
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (resolved > 0) {
+                log.info("Resolved the place of {} internships", resolved);
+            }
+        } catch (Exception e) {
+            log.error("Error during place backfill", e);
+        }
+    }
+}
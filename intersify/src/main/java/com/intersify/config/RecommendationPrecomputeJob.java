@@ -0,0 +1,88 @@
+package com.intersify.config;
+
+import com.intersify.entity.StudentRecommendation;
+import com.intersify.recommendation.RecommendationCache;
+import com.intersify.recommendation.RecommendationEngine;
+import com.intersify.recommendation.RecommendationStore;
+import com.intersify.recommendation.Recommendations;
+import com.intersify.recommendation.SkillDictionary;
+import com.intersify.recommendation.StudentSkills;
+import com.intersify.repository.StudentProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scores every student against the in-memory internship skill vectors once a night and stores
+ * the top lists. Students are read in keyset batches; each batch is scored in parallel on a
+ * dedicated fork/join pool and written back as one JDBC batch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationPrecomputeJob {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final StudentProfileRepository studentRepository;
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationStore recommendationStore;
+    private final RecommendationCache recommendationCache;
+    private final SkillDictionary skillDictionary;
+
+    // Run every night at 02:30
+    @Scheduled(cron = "0 30 2 * * *")
+    public void precompute() {
+        if (!recommendationEngine.isReady()) {
+            log.warn("Skipping recommendation precompute: search index not built yet");
+            return;
+        }
+        log.info("Starting recommendation precompute");
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        LocalDateTime startedAt = LocalDateTime.now();
+        long afterId = 0L;
+        int scored = 0;
+        try {
+            while (true) {
+                List<StudentSkills> batch = studentRepository.findSkillsBatch(afterId, PageRequest.of(0, BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                LocalDateTime computedAt = LocalDateTime.now();
+                List<StudentRecommendation> rows = pool.submit(() -> batch.parallelStream()
+                        .map(student -> score(student, computedAt))
+                        .toList()).get();
+                recommendationStore.saveAll(rows);
+                scored += rows.size();
+                afterId = batch.get(batch.size() - 1).studentId();
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            // Lists cached before the run would otherwise shadow the fresh ones until they expire
+            recommendationCache.invalidateAll();
+            recommendationEngine.forgetChangesBefore(startedAt);
+            log.info("Recommendation precompute completed for {} students", scored);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Recommendation precompute interrupted after {} students", scored);
+        } catch (Exception e) {
+            log.error("Error during recommendation precompute", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private StudentRecommendation score(StudentSkills student, LocalDateTime computedAt) {
+        Recommendations recommendations = recommendationEngine.recommend(
+                skillDictionary.vectorOf(student.skills()), RecommendationEngine.TOP_N);
+        return new StudentRecommendation(student.studentId(), RecommendationStore.format(recommendations.internshipIds()),
+                recommendations.lowestScore(), computedAt);
+    }
+}
@@ -0,0 +1,116 @@
+package com.intersify.config;
+
+import com.intersify.entity.Internship;
+import com.intersify.entity.StudentProfile;
+import com.intersify.recommendation.StudentSkillsChangedEvent;
+import com.intersify.repository.InternshipRepository;
+import com.intersify.repository.StudentProfileRepository;
+import com.intersify.search.InternshipChangedEvent;
+import com.intersify.service.SkillNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Links internships and student profiles created before the skill dictionary existed to their
+ * canonical skills, rewriting the text columns to the canonical spelling. Same keyset-batch shape
+ * as StipendBackfillJob; rows whose text changed are re-published so in-memory views follow.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final InternshipRepository internshipRepository;
+    private final StudentProfileRepository studentRepository;
+    private final SkillNormalizer skillNormalizer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int internships = backfillInternships();
+            int students = backfillStudents();
+            if (internships > 0 || students > 0) {
+                log.info("Linked skills of {} internships and {} student profiles", internships, students);
+            }
+        } catch (Exception e) {
+            log.error("Error during skill backfill", e);
+        }
+    }
+
+    private int backfillInternships() {
+        long afterId = 0L;
+        int linked = 0;
+        while (true) {
+            long from = afterId;
+            List<Internship> changed = new ArrayList<>();
+            List<Internship> batch = transactionTemplate.execute(status -> {
+                List<Internship> internships = internshipRepository.findSkillBackfillBatch(
+                        from, PageRequest.of(0, BATCH_SIZE));
+                for (Internship internship : internships) {
+                    String before = internship.getSkillsRequired();
+                    skillNormalizer.apply(internship);
+                    if (!Objects.equals(before, internship.getSkillsRequired())) {
+                        changed.add(internship);
+                    }
+                }
+                return internships;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return linked;
+            }
+            changed.forEach(internship -> eventPublisher.publishEvent(InternshipChangedEvent.saved(internship)));
+            linked += batch.size();
+            afterId = batch.get(batch.size() - 1).getInternshipId();
+            if (batch.size() < BATCH_SIZE) {
+                return linked;
+            }
+        }
+    }
+
+    private int backfillStudents() {
+        long afterId = 0L;
+        int linked = 0;
+        while (true) {
+            long from = afterId;
+            List<StudentProfile> changed = new ArrayList<>();
+            List<StudentProfile> batch = transactionTemplate.execute(status -> {
+                List<StudentProfile> students = studentRepository.findSkillBackfillBatch(
+                        from, PageRequest.of(0, BATCH_SIZE));
+                for (StudentProfile student : students) {
+                    String before = student.getSkills();
+                    skillNormalizer.apply(student);
+                    if (!Objects.equals(before, student.getSkills())) {
+                        changed.add(student);
+                    }
+                }
+                return students;
+            });
+            if (batch == null || batch.isEmpty()) {
+                return linked;
+            }
+            changed.forEach(student -> eventPublisher.publishEvent(
+                    new StudentSkillsChangedEvent(student.getStudentId(), student.getSkills())));
+            linked += batch.size();
+            afterId = batch.get(batch.size() - 1).getStudentId();
+            if (batch.size() < BATCH_SIZE) {
+                return linked;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.intersify.config;
+
+import com.intersify.entity.Internship;
+import com.intersify.repository.InternshipRepository;
+import com.intersify.search.StipendParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the numeric stipend columns of internships created before they existed, and re-reads
+ * those an older parser took for unpaid.
+ * Walks the table in keyset batches, one short transaction per batch; rows whose stipend
+ * cannot be parsed are left null and simply skipped on the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StipendBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final InternshipRepository internshipRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0L;
+        int updated = 0;
+        try {
+            while (true) {
+                long from = afterId;
+                List<Internship> batch = transactionTemplate.execute(status -> {
+                    List<Internship> internships = internshipRepository.findStipendBackfillBatch(
+                            from, PageRequest.of(0, BATCH_SIZE));
+                    for (Internship internship : internships) {
+                        internship.setStipendAmount(StipendParser.parseMonthlyAmount(internship.getStipend()));
+                        internship.setStipendCurrency(StipendParser.parseCurrency(internship.getStipend()));
+                    }
+                    // Dirty checking flushes the batch as JDBC batched updates on commit
+                    return internships;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                updated += (int) batch.stream().filter(i -> i.getStipendAmount() != null).count();
+                afterId = batch.get(batch.size() - 1).getInternshipId();
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (updated > 0) {
+                log.info("Backfilled numeric stipend for {} internships", updated);
+            }
+        } catch (Exception e) {
+            log.error("Error during stipend backfill", e);
+        }
+    }
+}
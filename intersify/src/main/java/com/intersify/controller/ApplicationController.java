@@ -1,11 +1,16 @@
 package com.intersify.controller;
 
 import com.intersify.dto.ApiResponse;
+import com.intersify.dto.ApplicantSummaryDTO;
 import com.intersify.dto.ApplicationDetailsDTO;
 import com.intersify.dto.ApplicationTrackingDTO;
+import com.intersify.dto.BulkStatusUpdateRequest;
+import com.intersify.dto.BulkStatusUpdateResultDTO;
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.dto.JwtDTO;
 import com.intersify.entity.Application;
 import com.intersify.entity.ApplicationStage;
+import com.intersify.enums.ApplicationStatus;
 import com.intersify.service.ApplicationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -71,6 +76,21 @@ public class ApplicationController {
         );
     }
     
+    // COMPANY: applicants of one of its internships, newest first; pass back nextCursor for the next page
+    @GetMapping("/internship/{internshipId}/page")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<CursorPageDTO<ApplicantSummaryDTO>> internshipApplicantsPage(
+            @AuthenticationPrincipal JwtDTO jwt,
+            @PathVariable Long internshipId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(
+                applicationService.getApplicantsPage(internshipId, jwt.getUserId(), status, cursor, size)
+        );
+    }
+    
     @GetMapping("/{applicationId}")
     @PreAuthorize("hasRole('COMPANY')")
     public ResponseEntity<ApplicationDetailsDTO> getApplicationDetails(
@@ -117,6 +137,17 @@ public class ApplicationController {
 
         return ResponseEntity.ok(new ApiResponse("Application status updated successfully", "SUCCESS"));
     }
+
+    // COMPANY: move many applications to one status; applications that cannot move are reported, not fatal
+    @PutMapping("/status/bulk")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<BulkStatusUpdateResultDTO> updateStatusBulk(
+            @AuthenticationPrincipal JwtDTO jwt,
+            @RequestBody BulkStatusUpdateRequest request) {
+
+        return ResponseEntity.ok(applicationService.updateStatusBulk(
+                request.getApplicationIds(), request.getStatus(), request.getNotes(), jwt.getUserId()));
+    }
 }
 
 
@@ -1,6 +1,7 @@
 package com.intersify.controller;
 
 import com.intersify.dto.ApiResponse;
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.dto.JwtDTO;
 import com.intersify.entity.Internship;
 import com.intersify.service.InternshipService;
@@ -26,6 +27,17 @@ public class InternshipController {
             internshipService.getPublicInternships()
         );
     }
+
+    // PUBLIC: cursor-paginated listing, newest first
+    @GetMapping("/public/page")
+    public ResponseEntity<CursorPageDTO<Internship>> getPublicInternshipsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(
+            internshipService.getPublicInternshipsPage(cursor, size, includeTotal)
+        );
+    }
     
     @GetMapping("/company")
     @PreAuthorize("hasRole('COMPANY')")
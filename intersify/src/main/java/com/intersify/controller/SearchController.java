@@ -4,7 +4,12 @@ package com.intersify.controller;
 import com.intersify.dto.JwtDTO;
 import com.intersify.dto.SearchRequestDTO;
 import com.intersify.dto.SearchResultDTO;
+import com.intersify.dto.SearchStatsDTO;
+import com.intersify.dto.SuggestionDTO;
 import com.intersify.entity.Internship;
+import com.intersify.enums.SearchMatchMode;
+import com.intersify.enums.SuggestionType;
+import com.intersify.search.InternshipSuggester;
 import com.intersify.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,7 +18,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/search")
@@ -21,6 +25,7 @@ import java.util.Map;
 public class SearchController {
 
     private final SearchService searchService;
+    private final InternshipSuggester suggester;
 
     // Public search endpoint - no authentication required
     @PostMapping("/internships")
@@ -62,19 +67,32 @@ public class SearchController {
     @GetMapping("/quick")
     public ResponseEntity<SearchResultDTO> quickSearch(
             @RequestParam String keyword,
+            @RequestParam(defaultValue = "EXACT") SearchMatchMode matchMode,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
         
         SearchRequestDTO request = SearchRequestDTO.builder()
                 .keyword(keyword)
+                .matchMode(matchMode)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
                 .build();
         
         SearchResultDTO result = searchService.searchInternships(request);
         return ResponseEntity.ok(result);
     }
 
+    // Typeahead completions for titles, skills, locations and companies, served from memory
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) SuggestionType type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggester.suggest(prefix, type, limit));
+    }
+
     // Advanced search with multiple filters
     @PostMapping("/advanced")
     public ResponseEntity<SearchResultDTO> advancedSearch(@RequestBody SearchRequestDTO request) {
@@ -84,13 +102,7 @@ public class SearchController {
 
     // Get search statistics
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getSearchStats() {
-        Map<String, Object> stats = Map.of(
-            "totalInternships", searchService.getTotalInternships(),
-            "activeInternships", searchService.getActiveInternships(),
-            "totalCompanies", searchService.getTotalCompanies(),
-            "totalApplications", searchService.getTotalApplications()
-        );
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<SearchStatsDTO> getSearchStats() {
+        return ResponseEntity.ok(searchService.getSearchStats());
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.intersify.dto;
+
+import com.intersify.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One row of a company's applicant list, filled by a constructor-expression query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantSummaryDTO {
+    private Long applicationId;
+    private ApplicationStatus status;
+
+    @com.fasterxml.jackson.annotation.JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime appliedDate;
+
+    private String studentName;
+    private String studentEmail;
+    private String resumeUrl; // the resume submitted with this application
+}
@@ -0,0 +1,16 @@
+package com.intersify.dto;
+
+import com.intersify.enums.BulkUpdateOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusItemDTO {
+    private Long applicationId;
+    private BulkUpdateOutcome outcome;
+    private String previousStatus; // null when the application was not found
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.intersify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResultDTO {
+    private int updated;
+    private int failed;
+    private List<BulkStatusItemDTO> results; // in request order, one per distinct application id
+}
@@ -0,0 +1,20 @@
+package com.intersify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    private boolean hasNext;
+    private String nextCursor; // pass back as cursor to fetch the next page, null on the last one
+    private Long approximateTotal; // only when requested; cached for up to a minute
+}
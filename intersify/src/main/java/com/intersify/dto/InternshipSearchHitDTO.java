@@ -0,0 +1,24 @@
+package com.intersify.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+
+// Read-only search result row: just what a result card shows, filled by a constructor-expression query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InternshipSearchHitDTO {
+    private Long internshipId;
+    private String title;
+    private String companyName; // Will map to c.companyName
+    private String companyLogo; // Will map to c.logo
+    private String location;
+    private String stipend;
+    private LocalDate deadline;
+    private String skillsRequired;
+}
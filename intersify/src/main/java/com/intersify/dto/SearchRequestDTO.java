@@ -1,5 +1,6 @@
 package com.intersify.dto;
 
+import com.intersify.enums.SearchMatchMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,10 +15,13 @@ import java.util.List;
 public class SearchRequestDTO {
     
     private String keyword;
+    private SearchMatchMode matchMode; // EXACT (default) or FUZZY for partial / misspelt keywords
     private String location;
+    private Double radiusKm; // with a location naming a known place: everything within this distance of it
     private String skills;
     private String minStipend;
     private String maxStipend;
+    private String stipendCurrency; // ISO code the stipend range and facets are in: INR (default), USD, EUR or GBP
     private String duration;
     private Boolean activeOnly;
     private String companyName;
@@ -25,7 +29,13 @@ public class SearchRequestDTO {
     
     private int page = 0;
     private int size = 10;
+
+    // Keyset pagination: send "" for the first page, then the nextCursor of the previous result; page is ignored
+    private String cursor;
+    private Boolean includeTotal; // cursor mode only; adds an approximate total to the result
+
+    private Boolean hitsOnly; // return only the lean hits, without the full Internship entities
     
-    private String sortBy = "deadline";
-    private String sortDirection = "ASC";
+    private String sortBy = "deadline"; // deadline, stipend, recency or relevance
+    private String sortDirection = "ASC"; // relevance is always best first
 }
\ No newline at end of file
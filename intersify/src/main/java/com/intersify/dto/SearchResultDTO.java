@@ -7,24 +7,34 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SearchResultDTO {
     
-    private List<Internship> internships;
+    private List<InternshipSearchHitDTO> hits;
+    private List<Internship> internships; // left out when the request sets hitsOnly
     private long totalElements;
     private int totalPages;
     private int currentPage;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // Cursor mode leaves totalElements/totalPages unset; the total is only computed when asked for
+    private String nextCursor;
+    private Long approximateTotal;
     
     private List<String> popularSkills;
     private List<String> popularLocations;
     private List<String> popularCompanies;
+
+    // Facet name (skills, location, duration, stipend, company) -> value counts over the full result set
+    private Map<String, List<FacetCountDTO>> facets;
     
     private String searchQuery;
     private int executionTime; // in milliseconds
+    private Map<String, Long> stageTimings; // stage -> microseconds, in execution order
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.intersify.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+// Public search widget figures, all from one aggregate query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchStatsDTO {
+    private long totalInternships;
+    private long activeInternships; // deadline after today
+    private long totalCompanies;    // companies with at least one internship
+    private long totalApplications;
+}
@@ -0,0 +1,15 @@
+package com.intersify.dto;
+
+import com.intersify.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String text;
+    private SuggestionType type;
+    private int count; // number of internships carrying this value
+}
@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        // Applicant pages: newest first within an internship, optionally one status
+        @Index(name = "idx_application_internship_status", columnList = "internship_id, status, application_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,7 +13,9 @@ import lombok.*;
 import java.util.List;
 
 @Entity
-@Table(name = "company_profile")
+@Table(name = "company_profile", indexes = {
+        @Index(name = "idx_company_profile_industry", columnList = "industry")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
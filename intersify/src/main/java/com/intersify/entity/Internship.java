@@ -6,7 +6,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -19,6 +22,12 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@Table(name = "internship", indexes = {
+        @Index(name = "idx_internship_stipend_amount", columnList = "stipend_amount, internship_id"),
+        @Index(name = "idx_internship_deadline_id", columnList = "deadline, internship_id"),
+        @Index(name = "idx_internship_updated_at", columnList = "updated_at, internship_id"),
+        @Index(name = "idx_internship_place_id", columnList = "place_id, internship_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,15 +46,39 @@ public class Internship {
     private String title;
     private String location;
     private String stipend;
+
+    // Monthly amount and ISO currency parsed from the free-text stipend, used for range filtering
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer stipendAmount;
+
+    @Column(length = 3)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String stipendCurrency;
+
+    // Gazetteer place the free-text location resolves to, used by location and radius filters
+    @Column(length = 64)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String placeId;
+
     private String skillsRequired;
     private String duration;
     private LocalDate deadline;
  
     private String status = "active"; // Default to active
 
+    // Last write, used to replay changes made since the search index snapshot
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     @Transient // Use this if you want to calculate count on the fly
     private Long applicantsCount;
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
     // ================= RELATIONSHIPS =================
 
     @OneToMany(mappedBy = "internship")
@@ -55,6 +88,13 @@ public class Internship {
     @OneToMany(mappedBy = "internship")
     @JsonIgnore
     private List<Certificate> certificates;
-}
-
 
+    // Canonical skills behind the comma-separated text, kept in step by SkillNormalizer
+    @ManyToMany
+    @JoinTable(name = "internship_skill",
+            joinColumns = @JoinColumn(name = "internship_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_internship_skill_skill", columnList = "skill_id, internship_id"))
+    @JsonIgnore
+    private Set<Skill> skillSet = new LinkedHashSet<>();
+}
@@ -0,0 +1,54 @@
+package com.intersify.entity;
+
+import com.intersify.enums.ApplicationStatus;
+import com.intersify.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// An application status notification waiting to be emailed and pushed; written in the same
+// transaction as the status change, with everything the message needs copied in
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_due", columnList = "status, next_attempt_at, outbox_id")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    private Long applicationId;
+    private Long studentId;
+    private Long companyId;
+
+    private String studentEmail;
+    private String studentName;
+    private String internshipTitle;
+    private String companyName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private ApplicationStatus applicationStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // Failed email attempts so far; WebSocket pushes only go out on the first attempt
+    private int attempts;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
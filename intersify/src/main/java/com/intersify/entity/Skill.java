@@ -0,0 +1,23 @@
+package com.intersify.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Canonical skill dictionary entry; name is the lower-case key, label the form shown to users
+@Entity
+@Table(name = "skill")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long skillId;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String label;
+}
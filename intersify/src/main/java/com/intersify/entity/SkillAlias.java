@@ -0,0 +1,21 @@
+package com.intersify.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Alternative spelling of a skill, e.g. "js" for JavaScript
+@Entity
+@Table(name = "skill_alias")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillAlias {
+
+    @Id
+    @Column(length = 100)
+    private String alias;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "skill_id")
+    private Skill skill;
+}
@@ -5,7 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -43,6 +45,13 @@ public class StudentProfile {
     @OneToMany(mappedBy = "student")
     @JsonIgnore
     private List<Certificate> certificates;
-}
-
 
+    // Canonical skills behind the comma-separated text, kept in step by SkillNormalizer
+    @ManyToMany
+    @JoinTable(name = "student_skill",
+            joinColumns = @JoinColumn(name = "student_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_student_skill_skill", columnList = "skill_id, student_id"))
+    @JsonIgnore
+    private Set<Skill> skillSet = new LinkedHashSet<>();
+}
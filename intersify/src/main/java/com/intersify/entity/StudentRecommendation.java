@@ -0,0 +1,27 @@
+package com.intersify.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Precomputed recommendations of one student, refreshed by the nightly job
+@Entity
+@Table(name = "student_recommendation")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRecommendation {
+
+    @Id
+    private Long studentId;
+
+    // Comma-separated internship ids, best first
+    @Column(length = 400)
+    private String internshipIds;
+
+    // Skill overlap of the last listed internship, 0 when the list is not full
+    private int lowestScore;
+
+    private LocalDateTime computedAt;
+}
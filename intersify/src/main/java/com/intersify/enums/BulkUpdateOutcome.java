@@ -0,0 +1,9 @@
+package com.intersify.enums;
+
+public enum BulkUpdateOutcome {
+    UPDATED,
+    NOT_FOUND,
+    UNAUTHORIZED, // belongs to another company's internship
+    INVALID_TRANSITION,
+    CONFLICT // changed by someone else while the batch was being applied
+}
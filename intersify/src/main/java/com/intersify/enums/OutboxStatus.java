@@ -0,0 +1,7 @@
+package com.intersify.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED // gave up after the last retry
+}
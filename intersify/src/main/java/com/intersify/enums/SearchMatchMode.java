@@ -0,0 +1,6 @@
+package com.intersify.enums;
+
+public enum SearchMatchMode {
+    EXACT,
+    FUZZY
+}
@@ -0,0 +1,8 @@
+package com.intersify.enums;
+
+public enum SearchSortField {
+    DEADLINE,
+    STIPEND,
+    RECENCY, // posting order, i.e. internship id
+    RELEVANCE
+}
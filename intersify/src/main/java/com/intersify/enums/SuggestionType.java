@@ -0,0 +1,8 @@
+package com.intersify.enums;
+
+public enum SuggestionType {
+    TITLE,
+    SKILL,
+    LOCATION,
+    COMPANY
+}
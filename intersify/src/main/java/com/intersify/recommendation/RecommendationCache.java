@@ -0,0 +1,122 @@
+package com.intersify.recommendation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.intersify.entity.Internship;
+import com.intersify.search.InternshipDocument;
+import com.intersify.search.InternshipIndexRebuiltEvent;
+import com.intersify.search.InternshipIndexedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Per-student recommendation lists, so dashboard loads are cache reads. An entry is dropped when the
+ * student's skills change, when a posting it lists changes, when a new or updated posting could rank
+ * into it, and as soon as the first posting it lists closes.
+ */
+@Component
+public class RecommendationCache {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final long MAX_STUDENTS = 10_000;
+
+    private final SkillDictionary skillDictionary;
+    private final Cache<Long, Entry> entries;
+
+    public RecommendationCache(SkillDictionary skillDictionary, MeterRegistry meterRegistry) {
+        this.skillDictionary = skillDictionary;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(MAX_STUDENTS)
+                .expireAfter(new UntilFirstDeadline())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "recommendations");
+    }
+
+    public List<Internship> get(Long studentId, Function<Long, Recommendations> rank,
+            Function<List<Long>, List<Internship>> load) {
+        return entries.get(studentId, id -> {
+            Recommendations recommendations = rank.apply(id);
+            return new Entry(recommendations, load.apply(recommendations.internshipIds()));
+        }).internships();
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    // Ordered after RecommendationEngine, so a list recomputed right away sees the new state
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onStudentSkillsChanged(StudentSkillsChangedEvent event) {
+        entries.invalidate(event.studentId());
+    }
+
+    @EventListener
+    @Order(1)
+    public void onIndexRebuilt(InternshipIndexRebuiltEvent event) {
+        entries.invalidateAll();
+    }
+
+    @EventListener
+    @Order(1)
+    public void onInternshipIndexed(InternshipIndexedEvent event) {
+        InternshipDocument previous = event.previous();
+        InternshipDocument current = event.current();
+        int[] skills = current != null && isOpen(current) ? skillDictionary.vectorOf(current.skillsRequired()) : null;
+        entries.asMap().values().removeIf(entry -> {
+            Recommendations recommendations = entry.recommendations();
+            if (previous != null && recommendations.internshipIds().contains(previous.internshipId())) {
+                return true;
+            }
+            // A posting scoring at least the current cut-off may displace the last one
+            return skills != null
+                    && SkillDictionary.overlap(recommendations.studentSkills(), skills) >= recommendations.lowestScore();
+        });
+    }
+
+    private static boolean isOpen(InternshipDocument document) {
+        return document.deadline() != null && !document.deadline().isBefore(LocalDate.now());
+    }
+
+    private record Entry(Recommendations recommendations, List<Internship> internships) {
+    }
+
+    // The TTL, cut short to the end of the first listed posting's last day
+    private static final class UntilFirstDeadline implements Expiry<Long, Entry> {
+
+        @Override
+        public long expireAfterCreate(Long studentId, Entry entry, long currentTime) {
+            long ttl = TTL.toNanos();
+            LocalDate closesFirst = entry.recommendations().closesFirst();
+            if (closesFirst == null) {
+                return ttl;
+            }
+            ZoneId zone = ZoneId.systemDefault();
+            Duration open = Duration.between(ZonedDateTime.now(zone), closesFirst.plusDays(1).atStartOfDay(zone));
+            return Math.max(0, Math.min(ttl, open.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long studentId, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(studentId, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long studentId, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.intersify.recommendation;
+
+import com.intersify.entity.StudentProfile;
+import com.intersify.exception.ResourceNotFoundException;
+import com.intersify.repository.StudentProfileRepository;
+import com.intersify.search.InternshipDocument;
+import com.intersify.search.InternshipIndexRebuiltEvent;
+import com.intersify.search.InternshipIndexedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Skill-overlap recommendations from precomputed skill-id vectors. Internship vectors follow the
+ * search index; student vectors are built on first use and replaced when the profile's skills change.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationEngine {
+
+    public static final int TOP_N = 10;
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingInt(Candidate::score).reversed()
+            .thenComparing(Comparator.comparingLong(Candidate::internshipId).reversed());
+
+    private final StudentProfileRepository studentRepository;
+    private final SkillDictionary skillDictionary;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Posting> postings = new HashMap<>();
+    private final Map<Long, int[]> students = new ConcurrentHashMap<>();
+    // Latest change to each posting since the index was built, so a stored list can tell whether it missed one
+    private final Map<Long, PostingChange> changes = new HashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Recommendations recommend(Long studentId, int limit) {
+        return recommend(studentVector(studentId), limit);
+    }
+
+    // Open internships ranked by the number of skills shared with the student, newest first on ties
+    public Recommendations recommend(int[] student, int limit) {
+        LocalDate today = LocalDate.now();
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (Posting posting : postings.values()) {
+                if (posting.deadline() == null || posting.deadline().isBefore(today)) {
+                    continue;
+                }
+                int score = SkillDictionary.overlap(student, posting.skills());
+                // Only allocate a candidate when it would make the cut
+                if (top.size() == limit && !beats(score, posting.internshipId(), top.peek())) {
+                    continue;
+                }
+                top.add(new Candidate(posting.internshipId(), score, posting.deadline()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(BEST_FIRST);
+        List<Long> ids = new ArrayList<>(ranked.size());
+        LocalDate closesFirst = null;
+        for (Candidate candidate : ranked) {
+            ids.add(candidate.internshipId());
+            if (closesFirst == null || candidate.deadline().isBefore(closesFirst)) {
+                closesFirst = candidate.deadline();
+            }
+        }
+        int lowestScore = ranked.size() < limit ? 0 : ranked.get(ranked.size() - 1).score();
+        return new Recommendations(student, ids, lowestScore, closesFirst);
+    }
+
+    // A stored list, minus the postings that closed or were removed since it was computed
+    public Recommendations restore(Long studentId, List<Long> internshipIds, int lowestScore) {
+        LocalDate today = LocalDate.now();
+        List<Long> open = new ArrayList<>(internshipIds.size());
+        LocalDate closesFirst = null;
+        lock.readLock().lock();
+        try {
+            for (Long internshipId : internshipIds) {
+                Posting posting = postings.get(internshipId);
+                if (posting == null || posting.deadline() == null || posting.deadline().isBefore(today)) {
+                    continue;
+                }
+                open.add(internshipId);
+                if (closesFirst == null || posting.deadline().isBefore(closesFirst)) {
+                    closesFirst = posting.deadline();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Recommendations(studentVector(studentId), open, lowestScore, closesFirst);
+    }
+
+    // Whether a list computed at computedAt may have missed a posting change: one of its postings changed since,
+    // or a posting opened or changed since scores at least the list's cut-off for this student
+    public boolean changedSince(Long studentId, List<Long> internshipIds, int lowestScore, LocalDateTime computedAt) {
+        int[] student = studentVector(studentId);
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, PostingChange> change : changes.entrySet()) {
+                if (!change.getValue().changedAt().isAfter(computedAt)) {
+                    continue;
+                }
+                if (internshipIds.contains(change.getKey())) {
+                    return true;
+                }
+                int[] skills = change.getValue().openSkills();
+                if (skills != null && SkillDictionary.overlap(student, skills) >= lowestScore) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Called after a precompute run has rewritten every stored list, which makes older changes irrelevant
+    public void forgetChangesBefore(LocalDateTime time) {
+        lock.writeLock().lock();
+        try {
+            changes.values().removeIf(change -> change.changedAt().isBefore(time));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean beats(int score, long internshipId, Candidate worst) {
+        return score > worst.score() || (score == worst.score() && internshipId > worst.internshipId());
+    }
+
+    private int[] studentVector(Long studentId) {
+        int[] vector = students.get(studentId);
+        if (vector == null) {
+            StudentProfile student = studentRepository.findById(studentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+            vector = skillDictionary.vectorOf(student.getSkills());
+            students.putIfAbsent(studentId, vector);
+        }
+        return vector;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onStudentSkillsChanged(StudentSkillsChangedEvent event) {
+        students.put(event.studentId(), skillDictionary.vectorOf(event.skills()));
+    }
+
+    @EventListener
+    @Order(0)
+    public void onIndexRebuilt(InternshipIndexRebuiltEvent event) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            changes.clear();
+            for (InternshipDocument document : event.documents()) {
+                postings.put(document.internshipId(), postingOf(document));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    @Order(0)
+    public void onInternshipIndexed(InternshipIndexedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.current() != null) {
+                Posting posting = postingOf(event.current());
+                postings.put(posting.internshipId(), posting);
+                boolean open = posting.deadline() != null && !posting.deadline().isBefore(LocalDate.now());
+                changes.put(posting.internshipId(), new PostingChange(LocalDateTime.now(), open ? posting.skills() : null));
+            } else if (event.previous() != null) {
+                postings.remove(event.previous().internshipId());
+                changes.put(event.previous().internshipId(), new PostingChange(LocalDateTime.now(), null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Posting postingOf(InternshipDocument document) {
+        return new Posting(document.internshipId(), skillDictionary.vectorOf(document.skillsRequired()),
+                document.deadline());
+    }
+
+    private record Posting(long internshipId, int[] skills, LocalDate deadline) {
+    }
+
+    // openSkills is null when the posting was closed or removed, so it can only matter to lists that held it
+    private record PostingChange(LocalDateTime changedAt, int[] openSkills) {
+    }
+
+    private record Candidate(long internshipId, int score, LocalDate deadline) {
+    }
+}
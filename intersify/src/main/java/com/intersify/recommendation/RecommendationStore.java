@@ -0,0 +1,76 @@
+package com.intersify.recommendation;
+
+import com.intersify.entity.StudentRecommendation;
+import com.intersify.repository.StudentRecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Reads and writes the precomputed lists in student_recommendation
+@Component
+@RequiredArgsConstructor
+public class RecommendationStore {
+
+    private static final String UPSERT = "INSERT INTO student_recommendation "
+            + "(student_id, internship_ids, lowest_score, computed_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE internship_ids = VALUES(internship_ids), "
+            + "lowest_score = VALUES(lowest_score), computed_at = VALUES(computed_at)";
+
+    private final StudentRecommendationRepository recommendationRepository;
+    private final RecommendationEngine recommendationEngine;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Empty when there is no list or a posting changed since in a way that could alter it, so the caller
+    // computes a fresh one
+    public Optional<Recommendations> find(Long studentId) {
+        Optional<StudentRecommendation> row = recommendationRepository.findById(studentId);
+        if (row.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> internshipIds = parse(row.get().getInternshipIds());
+        if (recommendationEngine.changedSince(studentId, internshipIds, row.get().getLowestScore(),
+                row.get().getComputedAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(recommendationEngine.restore(studentId, internshipIds, row.get().getLowestScore()));
+    }
+
+    // One JDBC batch per call instead of a merge (select + insert/update) per row
+    public void saveAll(List<StudentRecommendation> rows) {
+        jdbcTemplate.batchUpdate(UPSERT, rows, rows.size(), (statement, row) -> {
+            statement.setLong(1, row.getStudentId());
+            statement.setString(2, row.getInternshipIds());
+            statement.setInt(3, row.getLowestScore());
+            statement.setTimestamp(4, Timestamp.valueOf(row.getComputedAt()));
+        });
+    }
+
+    // Within the profile update's transaction, so a stale list is never read after the new skills are
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onStudentSkillsChanged(StudentSkillsChangedEvent event) {
+        recommendationRepository.deleteById(event.studentId());
+    }
+
+    public static String format(List<Long> internshipIds) {
+        return internshipIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static List<Long> parse(String internshipIds) {
+        List<Long> ids = new ArrayList<>();
+        if (internshipIds == null || internshipIds.isEmpty()) {
+            return ids;
+        }
+        for (String id : internshipIds.split(",")) {
+            ids.add(Long.valueOf(id));
+        }
+        return ids;
+    }
+}
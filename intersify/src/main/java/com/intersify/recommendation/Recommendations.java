@@ -0,0 +1,10 @@
+package com.intersify.recommendation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// A student's ranked internship ids, with what is needed to tell when they go stale: the skill vector they
+// were scored against, the lowest score that made the list (0 when it is not full) and the first deadline
+public record Recommendations(int[] studentSkills, List<Long> internshipIds, int lowestScore,
+        LocalDate closesFirst) {
+}
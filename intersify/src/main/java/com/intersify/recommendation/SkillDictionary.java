@@ -0,0 +1,62 @@
+package com.intersify.recommendation;
+
+import com.intersify.service.SkillNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Interns normalised skill names as small integers, so skill lists can be compared as sorted int arrays
+@Component
+@RequiredArgsConstructor
+public class SkillDictionary {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final SkillNormalizer skillNormalizer;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int idOf(String skill) {
+        return ids.computeIfAbsent(skill, key -> nextId.getAndIncrement());
+    }
+
+    // Sorted, distinct skill ids of a comma-separated skill list, aliases resolved
+    public int[] vectorOf(String skills) {
+        Set<String> names = skillNormalizer.canonicalNames(skills);
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+        int[] vector = new int[names.size()];
+        int size = 0;
+        for (String name : names) {
+            vector[size++] = idOf(name);
+        }
+        Arrays.sort(vector);
+        return vector;
+    }
+
+    // Number of ids two sorted vectors share; a merge walk that allocates nothing
+    public static int overlap(int[] left, int[] right) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,5 @@
+package com.intersify.recommendation;
+
+// Just the columns the recommendation job needs from a student profile
+public record StudentSkills(Long studentId, String skills) {
+}
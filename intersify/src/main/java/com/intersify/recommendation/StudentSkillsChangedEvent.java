@@ -0,0 +1,5 @@
+package com.intersify.recommendation;
+
+// Published when a student profile is saved with a different skill list
+public record StudentSkillsChangedEvent(Long studentId, String skills) {
+}
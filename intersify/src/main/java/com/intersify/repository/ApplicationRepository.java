@@ -1,12 +1,16 @@
 package com.intersify.repository;
+import com.intersify.dto.ApplicantSummaryDTO;
 import com.intersify.dto.ApplicationDetailsDTO;
 import com.intersify.entity.Application;
 import com.intersify.entity.Internship;
 import com.intersify.entity.StudentProfile;
+import com.intersify.enums.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +29,26 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT a FROM Application a JOIN FETCH a.internship i JOIN FETCH i.company c WHERE a.student.id = :studentId")
     List<Application> findByStudentIdWithCompany(@Param("studentId") Long studentId);
     
+    // Everything a status change and its notification read, for a whole batch in one query
+    @Query("SELECT a FROM Application a JOIN FETCH a.student s JOIN FETCH s.user "
+            + "JOIN FETCH a.internship i JOIN FETCH i.company WHERE a.applicationId IN :ids")
+    List<Application> findForStatusUpdate(@Param("ids") Collection<Long> ids);
+    
+    // Applicant pages, newest first below the last application served; one join, no entities
+    @Query("SELECT new com.intersify.dto.ApplicantSummaryDTO(a.applicationId, a.status, a.appliedDate, "
+            + "u.name, u.email, a.resumeUrl) FROM Application a JOIN a.student s JOIN s.user u "
+            + "WHERE a.internship.internshipId = :internshipId AND a.applicationId < :beforeId "
+            + "ORDER BY a.applicationId DESC")
+    List<ApplicantSummaryDTO> findApplicantsPage(@Param("internshipId") Long internshipId,
+            @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT new com.intersify.dto.ApplicantSummaryDTO(a.applicationId, a.status, a.appliedDate, "
+            + "u.name, u.email, a.resumeUrl) FROM Application a JOIN a.student s JOIN s.user u "
+            + "WHERE a.internship.internshipId = :internshipId AND a.status = :status "
+            + "AND a.applicationId < :beforeId ORDER BY a.applicationId DESC")
+    List<ApplicantSummaryDTO> findApplicantsPageByStatus(@Param("internshipId") Long internshipId,
+            @Param("status") ApplicationStatus status, @Param("beforeId") Long beforeId, Pageable pageable);
+    
     @Query("SELECT new com.intersify.dto.ApplicationDetailsDTO(" +
     	       "a.applicationId, " +
     	       "CAST(a.status as string), " + 
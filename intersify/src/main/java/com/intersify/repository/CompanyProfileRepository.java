@@ -2,12 +2,19 @@ package com.intersify.repository;
 
 import com.intersify.entity.CompanyProfile;
 import com.intersify.enums.CompanyStatus;
+import com.intersify.search.CompanyEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface CompanyProfileRepository extends JpaRepository<CompanyProfile, Long> {
 
     List<CompanyProfile> findByStatus(CompanyStatus status);
+
+    // Every company's name and industry, for the search filter lookups
+    @Query("SELECT new com.intersify.search.CompanyEntry(c.companyId, c.companyName, c.industry) "
+            + "FROM CompanyProfile c")
+    List<CompanyEntry> findAllEntries();
 }
 
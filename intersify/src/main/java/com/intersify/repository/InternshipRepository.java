@@ -1,12 +1,20 @@
 package com.intersify.repository;
 
 
+import com.intersify.dto.InternshipSearchHitDTO;
+import com.intersify.dto.SearchStatsDTO;
 import com.intersify.entity.Internship;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface InternshipRepository extends JpaRepository<Internship, Long>, JpaSpecificationExecutor<Internship> {
@@ -14,6 +22,77 @@ public interface InternshipRepository extends JpaRepository<Internship, Long>, J
     List<Internship> findByCompanyCompanyId(Long companyId);
 
     List<Internship> findByTitleContainingIgnoreCase(String keyword);
-    
+
+    // Keyset batches used to (re)build the in-memory search index
+    @EntityGraph(attributePaths = "company")
+    List<Internship> findByInternshipIdGreaterThanOrderByInternshipIdAsc(Long internshipId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    List<Internship> findByInternshipIdIn(List<Long> internshipIds);
+
+    // Search hits for a page of ids: only the columns a result card needs, in one query
+    @Query("SELECT new com.intersify.dto.InternshipSearchHitDTO(" +
+           "i.internshipId, " +
+           "i.title, " +
+           "c.companyName, " +
+           "c.logo, " +
+           "i.location, " +
+           "i.stipend, " +
+           "i.deadline, " +
+           "i.skillsRequired) " +
+           "FROM Internship i " +
+           "LEFT JOIN i.company c " +
+           "WHERE i.internshipId IN :ids")
+    List<InternshipSearchHitDTO> findSearchHitsByIdIn(@Param("ids") List<Long> internshipIds);
+
+    // Every /search/stats figure in a single pass over internship plus a count of application
+    @Query("SELECT new com.intersify.dto.SearchStatsDTO(" +
+           "COUNT(i), " +
+           "COALESCE(SUM(CASE WHEN i.deadline > :today THEN 1 ELSE 0 END), 0), " +
+           "COUNT(DISTINCT i.company.companyId), " +
+           "(SELECT COUNT(a) FROM Application a)) " +
+           "FROM Internship i")
+    SearchStatsDTO findSearchStats(@Param("today") LocalDate today);
+
+    // Keyset pages of the public listing, newest first
+    @EntityGraph(attributePaths = "company")
+    List<Internship> findByInternshipIdLessThanOrderByInternshipIdDesc(Long internshipId, Pageable pageable);
+
+    // Keyset batches of internships whose numeric stipend columns were never filled in, or were read as
+    // unpaid from a stipend that does not say so (lakh and LPA amounts before the parser knew them)
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT i FROM Internship i WHERE i.internshipId > :afterId AND i.stipend IS NOT NULL "
+            + "AND (i.stipendAmount IS NULL OR (i.stipendAmount = 0 AND LOWER(i.stipend) NOT LIKE '%unpaid%')) "
+            + "ORDER BY i.internshipId")
+    List<Internship> findStipendBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset batches of internships whose location was never resolved against the gazetteer
+    @Query("SELECT i FROM Internship i WHERE i.internshipId > :afterId AND i.location IS NOT NULL "
+            + "AND i.placeId IS NULL ORDER BY i.internshipId")
+    List<Internship> findPlaceBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    boolean existsByInternshipIdAndCompanyCompanyId(Long internshipId, Long companyId);
+
+    // Snapshot replay: all live ids, then keyset batches of the rows written since the snapshot
+    @Query("SELECT i.internshipId FROM Internship i")
+    List<Long> findAllInternshipIds();
+
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT i FROM Internship i WHERE i.updatedAt >= :since AND i.internshipId > :afterId "
+            + "ORDER BY i.internshipId")
+    List<Internship> findUpdatedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Rows written before updated_at existed
+    @Modifying
+    @Transactional
+    @Query("UPDATE Internship i SET i.updatedAt = :now WHERE i.updatedAt IS NULL")
+    int stampMissingUpdatedAt(@Param("now") LocalDateTime now);
+
+    // Keyset batches of internships whose skills were never linked to the skill dictionary
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT i FROM Internship i WHERE i.internshipId > :afterId AND i.skillsRequired IS NOT NULL "
+            + "AND i.skillSet IS EMPTY ORDER BY i.internshipId")
+    List<Internship> findSkillBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
 }
 
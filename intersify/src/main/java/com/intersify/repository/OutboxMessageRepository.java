@@ -0,0 +1,37 @@
+package com.intersify.repository;
+
+import com.intersify.entity.OutboxMessage;
+import com.intersify.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // Oldest first, served by (status, next_attempt_at, outbox_id)
+    @Query("SELECT m FROM OutboxMessage m WHERE m.status = com.intersify.enums.OutboxStatus.PENDING "
+            + "AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt, m.outboxId")
+    List<OutboxMessage> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.intersify.enums.OutboxStatus.SENT, m.sentAt = :now "
+            + "WHERE m.outboxId IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.attempts = :attempts, "
+            + "m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.outboxId = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = com.intersify.enums.OutboxStatus.SENT "
+            + "AND m.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package com.intersify.repository;
+
+import com.intersify.entity.SkillAlias;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SkillAliasRepository extends JpaRepository<SkillAlias, String> {
+
+    @EntityGraph(attributePaths = "skill")
+    List<SkillAlias> findAllBy();
+}
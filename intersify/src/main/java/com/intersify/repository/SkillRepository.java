@@ -0,0 +1,24 @@
+package com.intersify.repository;
+
+import com.intersify.entity.Skill;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    Optional<Skill> findByName(String name);
+
+    List<Skill> findByNameIn(Collection<String> names);
+
+    // Shared-lock read of the latest committed rows, including those inserted after the caller's snapshot
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM Skill s WHERE s.name IN :names")
+    List<Skill> findLatestByNameIn(@Param("names") Collection<String> names);
+}
@@ -1,7 +1,25 @@
 package com.intersify.repository;
 
 import com.intersify.entity.StudentProfile;
+import com.intersify.recommendation.StudentSkills;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface StudentProfileRepository extends JpaRepository<StudentProfile, Long> {
+
+    // Keyset batches of student skills for the nightly recommendation job
+    @Query("SELECT new com.intersify.recommendation.StudentSkills(s.studentId, s.skills) " +
+           "FROM StudentProfile s " +
+           "WHERE s.studentId > :afterId " +
+           "ORDER BY s.studentId")
+    List<StudentSkills> findSkillsBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset batches of profiles whose skills were never linked to the skill dictionary
+    @Query("SELECT s FROM StudentProfile s WHERE s.studentId > :afterId AND s.skills IS NOT NULL "
+            + "AND s.skillSet IS EMPTY ORDER BY s.studentId")
+    List<StudentProfile> findSkillBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
 }
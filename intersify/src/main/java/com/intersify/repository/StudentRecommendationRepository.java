@@ -0,0 +1,7 @@
+package com.intersify.repository;
+
+import com.intersify.entity.StudentRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StudentRecommendationRepository extends JpaRepository<StudentRecommendation, Long> {
+}
@@ -0,0 +1,37 @@
+package com.intersify.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of result-set sizes for keyset pagination, so scrolling through a result
+ * set pays for its count query at most once a minute instead of on every page.
+ */
+@Component
+public class ApproximateCounts {
+
+    private static final long TTL_MILLIS = 60_000;
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public long get(String key, LongSupplier count) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.value();
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        long value = count.getAsLong();
+        entries.put(key, new Entry(value, now + TTL_MILLIS));
+        return value;
+    }
+
+    private record Entry(long value, long expiresAt) {
+    }
+}
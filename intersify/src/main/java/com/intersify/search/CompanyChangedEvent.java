@@ -0,0 +1,5 @@
+package com.intersify.search;
+
+// Published when a company's name or industry may have changed
+public record CompanyChangedEvent(CompanyEntry company) {
+}
@@ -0,0 +1,83 @@
+package com.intersify.search;
+
+import com.intersify.repository.CompanyProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Company names and industries resolved to company ids in memory, so the company and industry
+ * filters become id lookups instead of string matches over every posting.
+ * Loaded once at startup; profile updates replace the affected entry and rebuild the lookups,
+ * which is cheap next to how rarely a company renames itself.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompanyDirectory {
+
+    private final CompanyProfileRepository companyRepository;
+
+    private final Map<Long, CompanyEntry> companies = new HashMap<>();
+
+    // Normalised name or industry -> company ids; replaced as a whole on every change
+    private volatile Map<String, Set<Long>> byName = Map.of();
+    private volatile Map<String, Set<Long>> byIndustry = Map.of();
+
+    // Ahead of the index rebuild, like the skill aliases
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void load() {
+        List<CompanyEntry> entries = companyRepository.findAllEntries();
+        companies.clear();
+        for (CompanyEntry entry : entries) {
+            companies.put(entry.companyId(), entry);
+        }
+        rebuildLookups();
+        log.info("Loaded {} companies for search filters", entries.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCompanyChanged(CompanyChangedEvent event) {
+        companies.put(event.company().companyId(), event.company());
+        rebuildLookups();
+    }
+
+    // Ids of the companies with exactly this name, ignoring case; empty when there is none
+    public Set<Long> idsByName(String companyName) {
+        return byName.getOrDefault(SearchTokenizer.normalize(companyName), Set.of());
+    }
+
+    public Set<Long> idsByIndustry(String industry) {
+        return byIndustry.getOrDefault(SearchTokenizer.normalize(industry), Set.of());
+    }
+
+    private void rebuildLookups() {
+        Map<String, Set<Long>> names = new HashMap<>();
+        Map<String, Set<Long>> industries = new HashMap<>();
+        for (CompanyEntry entry : companies.values()) {
+            add(names, entry.companyName(), entry.companyId());
+            add(industries, entry.industry(), entry.companyId());
+        }
+        byName = names;
+        byIndustry = industries;
+    }
+
+    private static void add(Map<String, Set<Long>> lookup, String value, Long companyId) {
+        String key = SearchTokenizer.normalize(value);
+        if (!key.isEmpty()) {
+            lookup.computeIfAbsent(key, k -> new HashSet<>()).add(companyId);
+        }
+    }
+}
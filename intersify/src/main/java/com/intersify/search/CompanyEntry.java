@@ -0,0 +1,5 @@
+package com.intersify.search;
+
+// The columns of a company profile that search filters on
+public record CompanyEntry(Long companyId, String companyName, String industry) {
+}
@@ -0,0 +1,96 @@
+package com.intersify.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline gazetteer bundled as geo/places.csv: canonical places with coordinates and the spellings
+ * they go by. Free-text locations such as "Bangalore, India" or "Remote / Bengaluru" resolve to one
+ * place, and a grid over the places answers radius queries without a spatial database.
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+
+    private static final String PLACES = "geo/places.csv";
+
+    // Name or alias, as space-joined tokens -> place
+    private final Map<String, Place> names = new HashMap<>();
+    private final GeoGrid grid = new GeoGrid();
+    private int longestName;
+
+    public Gazetteer() {
+        ClassPathResource resource = new ClassPathResource(PLACES);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                Place place = new Place(columns[0].trim(), columns[1].trim(),
+                        Double.parseDouble(columns[2].trim()), Double.parseDouble(columns[3].trim()));
+                grid.add(place);
+                addName(place.name(), place);
+                if (columns.length > 4) {
+                    for (String alias : columns[4].split("\\|")) {
+                        addName(alias, place);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + PLACES, e);
+        }
+        log.info("Loaded {} place names", names.size());
+    }
+
+    private void addName(String name, Place place) {
+        List<String> tokens = SearchTokenizer.tokenize(name);
+        if (!tokens.isEmpty()) {
+            names.putIfAbsent(String.join(" ", tokens), place);
+            longestName = Math.max(longestName, tokens.size());
+        }
+    }
+
+    // The longest known name in the text wins, leftmost first: "Greater Noida" is Greater Noida, not Noida
+    public Optional<Place> resolve(String location) {
+        List<String> tokens = SearchTokenizer.tokenize(location);
+        for (int length = Math.min(tokens.size(), longestName); length > 0; length--) {
+            for (int from = 0; from + length <= tokens.size(); from++) {
+                Place place = names.get(String.join(" ", tokens.subList(from, from + length)));
+                if (place != null) {
+                    return Optional.of(place);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Request-side form of a location: the canonical name when the place is known, otherwise unchanged
+    public String canonicalize(String location) {
+        return resolve(location).map(Place::name).orElse(location);
+    }
+
+    public List<Place> within(Place center, double radiusKm) {
+        return grid.within(center.latitude(), center.longitude(), radiusKm);
+    }
+
+    public record Place(String id, String name, double latitude, double longitude) {
+
+        // Key of the place among the indexed location values
+        public String key() {
+            return SearchTokenizer.normalize(name);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.intersify.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Places bucketed into one-degree latitude/longitude cells, so a radius query only measures the
+ * places in the cells overlapping its bounding box.
+ * Built once and then only read.
+ */
+class GeoGrid {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final Map<Long, List<Gazetteer.Place>> cells = new HashMap<>();
+
+    void add(Gazetteer.Place place) {
+        cells.computeIfAbsent(cell(latitudeCell(place.latitude()), longitudeCell(place.longitude())),
+                c -> new ArrayList<>()).add(place);
+    }
+
+    // Every place within the radius of the point, the point's own place included
+    List<Gazetteer.Place> within(double latitude, double longitude, double radiusKm) {
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double cos = Math.cos(Math.toRadians(latitude));
+        // Near the poles every longitude is close by
+        double longitudeSpan = cos > 1e-6 ? Math.min(radiusKm / (KM_PER_DEGREE * cos), 180) : 180;
+
+        int fromLatitude = latitudeCell(Math.max(-90, latitude - latitudeSpan));
+        int toLatitude = latitudeCell(Math.min(90, latitude + latitudeSpan));
+        int fromLongitude = longitudeCell(longitude - longitudeSpan);
+        int longitudeCells = Math.min(360, longitudeCell(longitude + longitudeSpan) - fromLongitude + 1);
+
+        List<Gazetteer.Place> places = new ArrayList<>();
+        for (int lat = fromLatitude; lat <= toLatitude; lat++) {
+            for (int i = 0; i < longitudeCells; i++) {
+                // Wrap around the antimeridian
+                int lon = Math.floorMod(fromLongitude + i, 360);
+                for (Gazetteer.Place place : cells.getOrDefault(cell(lat, lon), List.of())) {
+                    if (distanceKm(latitude, longitude, place.latitude(), place.longitude()) <= radiusKm) {
+                        places.add(place);
+                    }
+                }
+            }
+        }
+        return places;
+    }
+
+    // Haversine great-circle distance
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latitudeCell(double latitude) {
+        return Math.min(179, (int) Math.floor(latitude + 90));
+    }
+
+    private static int longitudeCell(double longitude) {
+        return (int) Math.floor(longitude + 180);
+    }
+
+    private static long cell(int latitudeCell, int longitudeCell) {
+        return (long) latitudeCell * 360 + Math.floorMod(longitudeCell, 360);
+    }
+}
@@ -0,0 +1,17 @@
+package com.intersify.search;
+
+import com.intersify.dto.FacetCountDTO;
+
+import java.util.List;
+import java.util.Map;
+
+// Ordered ids of the requested matches with their sort keys (for cursors), the size of the whole
+// result set and its facet counts
+public record IndexSearchResult(List<Long> ids, List<Long> keys, long total, Map<String, List<FacetCountDTO>> facets) {
+
+    public static final String SKILLS_FACET = "skills";
+    public static final String LOCATION_FACET = "location";
+    public static final String DURATION_FACET = "duration";
+    public static final String STIPEND_FACET = "stipend";
+    public static final String COMPANY_FACET = "company";
+}
@@ -0,0 +1,174 @@
+package com.intersify.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the indexed documents on local disk, so a restart replays recent changes
+ * instead of reading the whole internship table.
+ * Layout: magic, format version, taken-at millis, document count, body length, CRC32 of the body,
+ * then the documents. A snapshot with the wrong magic, version or checksum is ignored.
+ */
+@Component
+@Slf4j
+public class IndexSnapshotStore {
+
+    private static final int MAGIC = 0x49534E50; // "ISNP"
+    // Bump whenever InternshipDocument or the encoding below changes
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8 + 8;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final Path path;
+
+    public IndexSnapshotStore(@Value("${search.snapshot.path:data/search-index.snap}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    public Optional<IndexSnapshot> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                log.warn("Ignoring search index snapshot {}: not a snapshot", path);
+                return Optional.empty();
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                log.info("Ignoring search index snapshot {}: format {} instead of {}", path, version, FORMAT_VERSION);
+                return Optional.empty();
+            }
+            Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            long bodyLength = buffer.getLong();
+            long checksum = buffer.getLong();
+            if (bodyLength != buffer.remaining()) {
+                log.warn("Ignoring search index snapshot {}: truncated", path);
+                return Optional.empty();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) {
+                log.warn("Ignoring search index snapshot {}: checksum mismatch", path);
+                return Optional.empty();
+            }
+            List<InternshipDocument> documents = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                documents.add(read(buffer));
+            }
+            return Optional.of(new IndexSnapshot(takenAt, documents));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable search index snapshot {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    // Written to a temporary file and moved into place, so a crash never leaves a half-written snapshot
+    public void write(IndexSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            for (InternshipDocument document : snapshot.documents()) {
+                write(out, document);
+            }
+        }
+        byte[] bytes = body.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (OutputStream file = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshot.takenAt().toEpochMilli());
+            out.writeInt(snapshot.documents().size());
+            out.writeLong(bytes.length);
+            out.writeLong(crc.getValue());
+            out.write(bytes);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void write(DataOutputStream out, InternshipDocument document) throws IOException {
+        out.writeLong(document.internshipId());
+        out.writeLong(document.companyId() != null ? document.companyId() : -1L);
+        writeString(out, document.title());
+        writeString(out, document.companyName());
+        writeString(out, document.location());
+        writeString(out, document.stipend());
+        out.writeBoolean(document.stipendAmount() != null);
+        out.writeInt(document.stipendAmount() != null ? document.stipendAmount() : 0);
+        writeString(out, document.stipendCurrency());
+        writeString(out, document.skillsRequired());
+        writeString(out, document.duration());
+        out.writeLong(document.deadline() != null ? document.deadline().toEpochDay() : NO_DATE);
+    }
+
+    private static InternshipDocument read(ByteBuffer buffer) {
+        long internshipId = buffer.getLong();
+        long companyId = buffer.getLong();
+        String title = readString(buffer);
+        String companyName = readString(buffer);
+        String location = readString(buffer);
+        String stipend = readString(buffer);
+        boolean hasStipendAmount = buffer.get() != 0;
+        int stipendAmount = buffer.getInt();
+        String stipendCurrency = readString(buffer);
+        String skillsRequired = readString(buffer);
+        String duration = readString(buffer);
+        long deadline = buffer.getLong();
+        return new InternshipDocument(internshipId, companyId >= 0 ? companyId : null, title, companyName,
+                location, stipend, hasStipendAmount ? stipendAmount : null, stipendCurrency, skillsRequired, duration,
+                deadline != NO_DATE ? LocalDate.ofEpochDay(deadline) : null);
+    }
+
+    // Length-prefixed UTF-8; -1 for null
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record IndexSnapshot(Instant takenAt, List<InternshipDocument> documents) {
+    }
+}
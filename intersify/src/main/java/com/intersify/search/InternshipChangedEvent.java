@@ -0,0 +1,19 @@
+package com.intersify.search;
+
+import com.intersify.entity.Internship;
+
+// Published by the internship write paths; internship is null when the posting was deleted
+public record InternshipChangedEvent(Long internshipId, Internship internship) {
+
+    public static InternshipChangedEvent saved(Internship internship) {
+        return new InternshipChangedEvent(internship.getInternshipId(), internship);
+    }
+
+    public static InternshipChangedEvent deleted(Long internshipId) {
+        return new InternshipChangedEvent(internshipId, null);
+    }
+
+    public boolean isDeleted() {
+        return internship == null;
+    }
+}
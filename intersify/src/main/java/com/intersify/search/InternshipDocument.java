@@ -0,0 +1,45 @@
+package com.intersify.search;
+
+import com.intersify.entity.Internship;
+
+import java.time.LocalDate;
+
+// Immutable copy of the searchable fields of an internship, held by the in-memory index
+public record InternshipDocument(
+        Long internshipId,
+        Long companyId,
+        String title,
+        String companyName,
+        String location,
+        String stipend,
+        Integer stipendAmount,
+        String stipendCurrency,
+        String skillsRequired,
+        String duration,
+        LocalDate deadline) {
+
+    public static InternshipDocument from(Internship internship) {
+        Long companyId = null;
+        String companyName = null;
+        if (internship.getCompany() != null) {
+            companyId = internship.getCompany().getCompanyId();
+            companyName = internship.getCompany().getCompanyName();
+        }
+        return new InternshipDocument(
+                internship.getInternshipId(),
+                companyId,
+                internship.getTitle(),
+                companyName,
+                internship.getLocation(),
+                internship.getStipend(),
+                internship.getStipendAmount() != null
+                        ? internship.getStipendAmount()
+                        : StipendParser.parseMonthlyAmount(internship.getStipend()),
+                internship.getStipendCurrency() != null
+                        ? internship.getStipendCurrency()
+                        : StipendParser.parseCurrency(internship.getStipend()),
+                internship.getSkillsRequired(),
+                internship.getDuration(),
+                internship.getDeadline());
+    }
+}
@@ -0,0 +1,7 @@
+package com.intersify.search;
+
+import java.util.List;
+
+// Published by InternshipSearchIndex once it has been (re)built with the full set of documents
+public record InternshipIndexRebuiltEvent(List<InternshipDocument> documents) {
+}
@@ -0,0 +1,7 @@
+package com.intersify.search;
+
+// Published by InternshipSearchIndex under its write lock after a document changed, so listeners
+// receive changes in the order they were applied; previous is null for a new posting and current
+// is null once it has been removed
+public record InternshipIndexedEvent(InternshipDocument previous, InternshipDocument current) {
+}
@@ -0,0 +1,928 @@
+package com.intersify.search;
+
+import com.intersify.dto.FacetCountDTO;
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.entity.Internship;
+import com.intersify.enums.SearchMatchMode;
+import com.intersify.enums.SearchSortField;
+import com.intersify.repository.InternshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * In-process inverted index over the searchable internship fields.
+ * Every document is addressed by a dense ordinal: term postings and structured filter values are
+ * compressed bitmaps of ordinals and numeric filters are ordinals sorted by value, so a keyword
+ * search with filters is answered entirely by bitmap operations.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InternshipSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration REPLAY_MARGIN = Duration.ofMinutes(10);
+    private static final int FACET_VALUES = 10;
+
+    // BM25 term-frequency saturation and length normalisation
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final InternshipRepository internshipRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndexSnapshotStore snapshotStore;
+    private final Gazetteer gazetteer;
+    private final CompanyDirectory companyDirectory;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ordinal -> document, null once the internship is deleted
+    private final List<InternshipDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final CompactBitmap live = new CompactBitmap();
+
+    // ordinal -> token count per SearchField, plus the totals behind the average field lengths of BM25
+    private final List<int[]> fieldLengths = new ArrayList<>();
+    private final long[] totalFieldLengths = new long[SearchField.values().length];
+
+    // term -> ordinals of the documents containing it; sorted so prefixes resolve to a sub map
+    private final NavigableMap<String, TermPostings> postings = new TreeMap<>();
+
+    // Vocabulary of the title, company and skills fields, used by fuzzy matching
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    // Structured filter values, also the source of the facet counts
+    private final ValueBitmaps locations = new ValueBitmaps();
+    // Locations as written, for the substring match of a location the gazetteer does not know
+    private final ValueBitmaps rawLocations = new ValueBitmaps();
+    private final ValueBitmaps durations = new ValueBitmaps();
+    private final ValueBitmaps companies = new ValueBitmaps();
+    private final ValueBitmaps companyIds = new ValueBitmaps();
+    private final ValueBitmaps skills = new ValueBitmaps();
+    private final ValueBitmaps stipendBuckets = new ValueBitmaps();
+    // Currency of each paid stipend; unpaid and undisclosed stipends have none
+    private final ValueBitmaps stipendCurrencies = new ValueBitmaps();
+    private final SortedValueIndex stipends = new SortedValueIndex();
+    private final SortedValueIndex deadlines = new SortedValueIndex();
+    // Live documents missing from the sorted arrays above, which order before or after all the others
+    private final CompactBitmap noStipend = new CompactBitmap();
+    private final CompactBitmap noDeadline = new CompactBitmap();
+
+    private volatile boolean ready = false;
+
+    // Changes committed before the first build, in arrival order; a null document marks a deletion.
+    // The rebuild may have read those rows before they changed, so build() applies them on top.
+    private final Map<Long, InternshipDocument> pending = new LinkedHashMap<>();
+
+    // Bumped under the write lock by every change, so results can be cached against the state they came from
+    private volatile long version;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // Starts from the local snapshot when there is a valid one, otherwise reads the whole table
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        internshipRepository.stampMissingUpdatedAt(LocalDateTime.now());
+        Optional<IndexSnapshotStore.IndexSnapshot> snapshot = snapshotStore.load();
+        List<InternshipDocument> loaded = snapshot.isPresent() ? replay(snapshot.get()) : loadAll();
+        int replayed = build(loaded);
+        log.info("Indexed {} internships in {} ms{}, then {} changes made meanwhile", loaded.size(),
+                System.currentTimeMillis() - start, snapshot.isPresent() ? " from snapshot" : "", replayed);
+    }
+
+    private List<InternshipDocument> loadAll() {
+        List<InternshipDocument> loaded = new ArrayList<>();
+        long afterId = 0L;
+        List<Internship> batch;
+        do {
+            batch = internshipRepository.findByInternshipIdGreaterThanOrderByInternshipIdAsc(
+                    afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Internship internship : batch) {
+                loaded.add(InternshipDocument.from(internship));
+                afterId = internship.getInternshipId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return loaded;
+    }
+
+    // Snapshot documents minus the rows deleted since, plus the rows written since (with a margin for
+    // transactions that committed after the snapshot was taken) and any the snapshot never had
+    private List<InternshipDocument> replay(IndexSnapshotStore.IndexSnapshot snapshot) {
+        NavigableMap<Long, InternshipDocument> byId = new TreeMap<>();
+        for (InternshipDocument document : snapshot.documents()) {
+            byId.put(document.internshipId(), document);
+        }
+        Set<Long> existing = new HashSet<>(internshipRepository.findAllInternshipIds());
+        byId.keySet().retainAll(existing);
+
+        LocalDateTime since = LocalDateTime.ofInstant(snapshot.takenAt().minus(REPLAY_MARGIN), ZoneId.systemDefault());
+        long afterId = 0L;
+        int replayed = 0;
+        List<Internship> batch;
+        do {
+            batch = internshipRepository.findUpdatedSince(since, afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Internship internship : batch) {
+                byId.put(internship.getInternshipId(), InternshipDocument.from(internship));
+                afterId = internship.getInternshipId();
+            }
+            replayed += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        List<Long> missing = new ArrayList<>();
+        for (Long internshipId : existing) {
+            if (!byId.containsKey(internshipId)) {
+                missing.add(internshipId);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> ids = missing.subList(from, Math.min(from + REBUILD_BATCH_SIZE, missing.size()));
+            for (Internship internship : internshipRepository.findByInternshipIdIn(ids)) {
+                byId.put(internship.getInternshipId(), InternshipDocument.from(internship));
+            }
+        }
+        log.info("Replayed {} changed and {} missing internships onto a snapshot of {}", replayed, missing.size(),
+                snapshot.takenAt());
+        // Ordinals are assigned in id order
+        return new ArrayList<>(byId.values());
+    }
+
+    // Live documents in id order, for the snapshot job
+    public IndexSnapshotStore.IndexSnapshot snapshot() {
+        Instant takenAt = Instant.now();
+        lock.readLock().lock();
+        try {
+            List<InternshipDocument> live = new ArrayList<>(ordinals.size());
+            for (InternshipDocument document : documents) {
+                if (document != null) {
+                    live.add(document);
+                }
+            }
+            return new IndexSnapshotStore.IndexSnapshot(takenAt, live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Returns the number of pending changes applied on top of the loaded documents
+    private int build(List<InternshipDocument> loaded) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            ordinals.clear();
+            live.clear();
+            fieldLengths.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            postings.clear();
+            trigramIndex.clear();
+            locations.clear();
+            rawLocations.clear();
+            durations.clear();
+            companies.clear();
+            companyIds.clear();
+            skills.clear();
+            stipendBuckets.clear();
+            stipendCurrencies.clear();
+            noStipend.clear();
+            noDeadline.clear();
+
+            int[] stipendKeys = new int[loaded.size()];
+            int[] stipendOrdinals = new int[loaded.size()];
+            int stipendCount = 0;
+            int[] deadlineKeys = new int[loaded.size()];
+            int[] deadlineOrdinals = new int[loaded.size()];
+            int deadlineCount = 0;
+            for (InternshipDocument document : loaded) {
+                int ordinal = add(document);
+                if (document.stipendAmount() != null) {
+                    stipendKeys[stipendCount] = document.stipendAmount();
+                    stipendOrdinals[stipendCount++] = ordinal;
+                } else {
+                    noStipend.add(ordinal);
+                }
+                if (document.deadline() != null) {
+                    deadlineKeys[deadlineCount] = (int) document.deadline().toEpochDay();
+                    deadlineOrdinals[deadlineCount++] = ordinal;
+                } else {
+                    noDeadline.add(ordinal);
+                }
+            }
+            // One sort per numeric field instead of an insertion per document
+            stipends.load(stipendKeys, stipendOrdinals, stipendCount);
+            deadlines.load(deadlineKeys, deadlineOrdinals, deadlineCount);
+            version++;
+            ready = true;
+
+            // Still under the lock, so listeners see the rebuild before any change replayed onto it
+            eventPublisher.publishEvent(new InternshipIndexRebuiltEvent(List.copyOf(loaded)));
+            int replayed = pending.size();
+            for (Map.Entry<Long, InternshipDocument> change : pending.entrySet()) {
+                InternshipIndexedEvent indexed = change.getValue() != null
+                        ? indexLocked(change.getValue())
+                        : removeLocked(change.getKey());
+                if (indexed != null) {
+                    eventPublisher.publishEvent(indexed);
+                }
+            }
+            pending.clear();
+            return replayed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInternshipChanged(InternshipChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.internshipId());
+        } else {
+            index(event.internship());
+        }
+    }
+
+    // Events are published before the write lock is released, so listeners see changes in index order
+    public void index(Internship internship) {
+        InternshipDocument document = InternshipDocument.from(internship);
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                defer(document.internshipId(), document);
+                return;
+            }
+            eventPublisher.publishEvent(indexLocked(document));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long internshipId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                defer(internshipId, null);
+                return;
+            }
+            InternshipIndexedEvent indexed = removeLocked(internshipId);
+            if (indexed != null) {
+                eventPublisher.publishEvent(indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-inserted so replay order follows the latest change to each internship
+    private void defer(Long internshipId, InternshipDocument document) {
+        pending.remove(internshipId);
+        pending.put(internshipId, document);
+    }
+
+    private InternshipIndexedEvent indexLocked(InternshipDocument document) {
+        InternshipDocument previous = null;
+        Integer ordinal = ordinals.get(document.internshipId());
+        if (ordinal == null) {
+            ordinal = add(document);
+        } else {
+            previous = documents.get(ordinal);
+            unpost(ordinal, previous);
+            unsort(ordinal, previous);
+            documents.set(ordinal, document);
+            post(ordinal, document);
+        }
+        sort(ordinal, document);
+        version++;
+        return new InternshipIndexedEvent(previous, document);
+    }
+
+    // Null when the internship was not indexed
+    private InternshipIndexedEvent removeLocked(Long internshipId) {
+        Integer ordinal = ordinals.remove(internshipId);
+        if (ordinal == null) {
+            return null;
+        }
+        InternshipDocument previous = documents.get(ordinal);
+        unpost(ordinal, previous);
+        unsort(ordinal, previous);
+        documents.set(ordinal, null);
+        fieldLengths.set(ordinal, null);
+        live.remove(ordinal);
+        version++;
+        return new InternshipIndexedEvent(previous, null);
+    }
+
+    // Returns up to limit ids of the internships matching the request in the requested order, starting after
+    // the cursor when one is given, together with the size and facet counts of the whole result set.
+    // Deadline and stipend orders are read off the pre-sorted value arrays, so no page sorts the full match set.
+    public IndexSearchResult search(SearchRequestDTO request, SearchOrder order, SearchCursor after, int limit,
+            SearchTimings timings) {
+        lock.readLock().lock();
+        try {
+            timings.lap("lock");
+            List<Map<String, Float>> expansions = new ArrayList<>();
+            CompactBitmap matches = match(request, expansions, timings);
+            // Only a relevance order needs scores
+            MatchScores scores = null;
+            if (order.field() == SearchSortField.RELEVANCE && !expansions.isEmpty()) {
+                scores = score(expansions, matches);
+                timings.lap("score");
+            }
+
+            List<Integer> hits = switch (order.field()) {
+                case DEADLINE -> walk(deadlines, noDeadline, matches, order.descending(), after, limit,
+                        document -> (int) document.deadline().toEpochDay());
+                case STIPEND -> walk(stipends, noStipend, matches, order.descending(), after, limit,
+                        InternshipDocument::stipendAmount);
+                case RECENCY -> byRecency(matches, order.descending(), after, limit);
+                // Without scores every match is equally relevant; show the newest first
+                case RELEVANCE -> scores != null
+                        ? byScore(scores, after, limit)
+                        : byRecency(matches, true, after, limit);
+            };
+
+            List<Long> ids = new ArrayList<>(hits.size());
+            List<Long> keys = new ArrayList<>(hits.size());
+            for (int ordinal : hits) {
+                InternshipDocument document = documents.get(ordinal);
+                ids.add(document.internshipId());
+                keys.add(switch (order.field()) {
+                    case DEADLINE -> document.deadline() != null ? document.deadline().toEpochDay() : null;
+                    case STIPEND -> document.stipendAmount() != null ? document.stipendAmount().longValue() : null;
+                    case RECENCY -> null;
+                    // Scores are never negative, so their bit patterns order like the floats
+                    case RELEVANCE -> scores != null ? (long) Float.floatToIntBits(scores.of(ordinal)) : null;
+                });
+            }
+            timings.lap("order");
+            long total = matches.cardinality();
+            timings.lap("count");
+            Map<String, List<FacetCountDTO>> facets = facets(matches, request);
+            timings.lap("facets");
+            return new IndexSearchResult(ids, keys, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Documents without a value come first ascending and last descending, the way MySQL orders nulls, so index
+    // and database pages agree. The others come off the value-sorted array when the matches are common enough
+    // to meet limit of them within a short walk, and off a bounded heap over the matches otherwise.
+    private List<Integer> walk(SortedValueIndex order, CompactBitmap missing, CompactBitmap matches,
+            boolean descending, SearchCursor after, int limit, ToIntFunction<InternshipDocument> key) {
+        List<Integer> hits = new ArrayList<>(Math.min(limit, 256));
+        CompactBitmap missingMatches = missing.copy();
+        missingMatches.and(matches);
+        // A walk visits about limit * size / matched positions to collect limit hits; the heap visits the matches
+        long matched = matches.cardinality();
+        boolean heap = matched * matched < (long) limit * order.size();
+
+        if (!descending) {
+            if (after == null || after.key() == null) {
+                addMissing(hits, missingMatches, false, after, limit);
+            }
+            if (heap) {
+                addByHeap(hits, matches, missingMatches, false, after, limit, key);
+                return hits;
+            }
+            int position = after == null || after.key() == null ? 0 : order.lowerBound(after.key().intValue());
+            for (; position < order.size() && hits.size() < limit; position++) {
+                int ordinal = order.ordinalAt(position);
+                if (matches.contains(ordinal) && (after == null || after.key() == null
+                        || order.keyAt(position) != after.key()
+                        || documents.get(ordinal).internshipId() > after.internshipId())) {
+                    hits.add(ordinal);
+                }
+            }
+            return hits;
+        }
+
+        if (after == null || after.key() != null) {
+            if (heap) {
+                addByHeap(hits, matches, missingMatches, true, after, limit, key);
+            } else {
+                int position = after == null ? order.size() - 1 : order.upperBound(after.key().intValue()) - 1;
+                for (; position >= 0 && hits.size() < limit; position--) {
+                    int ordinal = order.ordinalAt(position);
+                    if (matches.contains(ordinal) && (after == null
+                            || order.keyAt(position) != after.key()
+                            || documents.get(ordinal).internshipId() < after.internshipId())) {
+                        hits.add(ordinal);
+                    }
+                }
+            }
+        }
+        addMissing(hits, missingMatches, true, after != null && after.key() == null ? after : null, limit);
+        return hits;
+    }
+
+    private void addMissing(List<Integer> hits, CompactBitmap missingMatches, boolean descending, SearchCursor after,
+            int limit) {
+        int[] ordinals = missingMatches.toArray();
+        for (int i = 0; i < ordinals.length && hits.size() < limit; i++) {
+            int ordinal = ordinals[descending ? ordinals.length - 1 - i : i];
+            if (isAfter(documents.get(ordinal).internshipId(), descending, after)) {
+                hits.add(ordinal);
+            }
+        }
+    }
+
+    // The matches with a value, in value then id order, keeping only the first limit - hits.size() of them
+    private void addByHeap(List<Integer> hits, CompactBitmap matches, CompactBitmap missingMatches,
+            boolean descending, SearchCursor after, int limit, ToIntFunction<InternshipDocument> key) {
+        int wanted = limit - hits.size();
+        if (wanted <= 0) {
+            return;
+        }
+        Comparator<Integer> ascending = Comparator
+                .comparingInt((Integer ordinal) -> key.applyAsInt(documents.get(ordinal)))
+                .thenComparingLong(ordinal -> documents.get(ordinal).internshipId());
+        Comparator<Integer> first = descending ? ascending.reversed() : ascending;
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(wanted, 1024) + 1, first.reversed());
+        matches.forEach(ordinal -> {
+            if (missingMatches.contains(ordinal)) {
+                return;
+            }
+            InternshipDocument document = documents.get(ordinal);
+            if (after != null && after.key() != null) {
+                int value = key.applyAsInt(document);
+                boolean beyond = descending ? value < after.key() : value > after.key();
+                boolean tieAfter = value == after.key() && isAfter(document.internshipId(), descending, after);
+                if (!beyond && !tieAfter) {
+                    return;
+                }
+            }
+            top.add(ordinal);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        });
+        List<Integer> ordered = new ArrayList<>(top);
+        ordered.sort(first);
+        hits.addAll(ordered);
+    }
+
+    // Ordinals are handed out as internships are created, so ordinal order is id order
+    private List<Integer> byRecency(CompactBitmap matches, boolean descending, SearchCursor after, int limit) {
+        int[] ordinals = matches.toArray();
+        List<Integer> hits = new ArrayList<>(Math.min(limit, ordinals.length));
+        for (int i = 0; i < ordinals.length && hits.size() < limit; i++) {
+            int ordinal = ordinals[descending ? ordinals.length - 1 - i : i];
+            if (isAfter(documents.get(ordinal).internshipId(), descending, after)) {
+                hits.add(ordinal);
+            }
+        }
+        return hits;
+    }
+
+    // Best score first, ties on ascending id; a bounded heap keeps the top limit instead of sorting every match
+    private List<Integer> byScore(MatchScores scores, SearchCursor after, int limit) {
+        int[] ordinals = scores.ordinals();
+        float[] values = scores.values();
+        Comparator<Integer> best = Comparator.comparingDouble((Integer rank) -> values[rank]).reversed()
+                .thenComparingLong(rank -> documents.get(ordinals[rank]).internshipId());
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, 1024) + 1, best.reversed());
+        for (int rank = 0; rank < ordinals.length; rank++) {
+            if (after == null || after.key() == null || isAfterScore(ordinals[rank], values[rank], after)) {
+                top.add(rank);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<Integer> ranks = new ArrayList<>(top);
+        ranks.sort(best);
+        List<Integer> hits = new ArrayList<>(ranks.size());
+        for (int rank : ranks) {
+            hits.add(ordinals[rank]);
+        }
+        return hits;
+    }
+
+    private boolean isAfterScore(int ordinal, float value, SearchCursor after) {
+        float score = Float.intBitsToFloat(after.key().intValue());
+        return value < score || (value == score && documents.get(ordinal).internshipId() > after.internshipId());
+    }
+
+    private static boolean isAfter(long internshipId, boolean descending, SearchCursor after) {
+        if (after == null) {
+            return true;
+        }
+        return descending ? internshipId < after.internshipId() : internshipId > after.internshipId();
+    }
+
+    // Live documents passing the filters and matching every keyword token. Each token is expanded to the
+    // indexed terms it matches (by prefix, or by trigram similarity in fuzzy mode) with a weight per term;
+    // the expansions are collected for scoring.
+    private CompactBitmap match(SearchRequestDTO request, List<Map<String, Float>> expansions, SearchTimings timings) {
+        boolean fuzzy = request.getMatchMode() == SearchMatchMode.FUZZY;
+        CompactBitmap matches = live.copy();
+
+        // Structured filters first: they are cheap and usually shrink the set the keywords work on
+        applyFilters(matches, request);
+        timings.lap("filters");
+
+        for (String token : SearchTokenizer.tokenize(request.getKeyword())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            Map<String, Float> terms = fuzzy ? fuzzyTerms(token) : prefixTerms(token);
+            CompactBitmap tokenMatches = new CompactBitmap();
+            for (String term : terms.keySet()) {
+                TermPostings termPostings = postings.get(term);
+                tokenMatches.or(fuzzy ? termPostings.fuzzyMatched() : termPostings.any);
+            }
+            matches.and(tokenMatches);
+            expansions.add(terms);
+        }
+        timings.lap("match");
+        return matches;
+    }
+
+    // BM25F: per token, the best weighted BM25 score among its expanded terms, summed over the tokens.
+    // Scores are kept per rank within the match set, so a query allocates for its matches, not the index.
+    private MatchScores score(List<Map<String, Float>> expansions, CompactBitmap matches) {
+        int[] ordinals = matches.toArray();
+        float[] scores = new float[ordinals.length];
+        float[] tokenScores = new float[ordinals.length];
+        int documentCount = Math.max(1, live.cardinality());
+        float[] averageLengths = new float[totalFieldLengths.length];
+        for (int i = 0; i < averageLengths.length; i++) {
+            averageLengths[i] = Math.max(1f, (float) totalFieldLengths[i] / documentCount);
+        }
+
+        for (Map<String, Float> terms : expansions) {
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                TermPostings termPostings = postings.get(term.getKey());
+                int documentFrequency = termPostings.any.cardinality();
+                float idf = (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                float weight = term.getValue() * idf;
+                CompactBitmap hits = termPostings.any.copy();
+                hits.and(matches);
+                // Hits come in ascending order, so each rank is searched for past the previous one
+                int[] rank = {0};
+                hits.forEach(ordinal -> {
+                    rank[0] = Arrays.binarySearch(ordinals, rank[0], ordinals.length, ordinal);
+                    float score = weight * saturation(termPostings, ordinal, averageLengths);
+                    if (score > tokenScores[rank[0]]) {
+                        tokenScores[rank[0]] = score;
+                    }
+                });
+            }
+            for (int rank = 0; rank < ordinals.length; rank++) {
+                scores[rank] += tokenScores[rank];
+                tokenScores[rank] = 0;
+            }
+        }
+        return new MatchScores(ordinals, scores);
+    }
+
+    // Boosted, length-normalised term frequency summed across fields, then saturated
+    private float saturation(TermPostings termPostings, int ordinal, float[] averageLengths) {
+        int[] lengths = fieldLengths.get(ordinal);
+        float frequency = 0;
+        for (Map.Entry<SearchField, CompactBitmap> entry : termPostings.byField.entrySet()) {
+            if (entry.getValue().contains(ordinal)) {
+                SearchField field = entry.getKey();
+                float norm = 1 - B + B * lengths[field.ordinal()] / averageLengths[field.ordinal()];
+                frequency += field.boost() * termPostings.frequency(field, ordinal) / norm;
+            }
+        }
+        return frequency / (K1 + frequency);
+    }
+
+    // Same semantics as the InternshipFilters Specification, as bitmap intersections
+    private void applyFilters(CompactBitmap matches, SearchRequestDTO request) {
+        // A known place is one exact value, or the values of every place within the radius
+        if (request.getLocation() != null && !request.getLocation().isEmpty()) {
+            Optional<Gazetteer.Place> place = gazetteer.resolve(request.getLocation());
+            if (place.isEmpty()) {
+                String location = SearchTokenizer.normalize(request.getLocation());
+                matches.and(rawLocations.union(value -> value.contains(location)));
+            } else if (request.getRadiusKm() != null && request.getRadiusKm() > 0) {
+                CompactBitmap nearby = new CompactBitmap();
+                for (Gazetteer.Place near : gazetteer.within(place.get(), request.getRadiusKm())) {
+                    nearby.or(locations.get(near.key()));
+                }
+                matches.and(nearby);
+            } else {
+                matches.and(locations.get(place.get().key()));
+            }
+        }
+
+        // Stored skill lists and the request are both canonicalised, so a skill is an exact value
+        if (request.getSkills() != null && !request.getSkills().isEmpty()) {
+            for (String skill : request.getSkills().split(",")) {
+                String wanted = SearchTokenizer.normalize(skill);
+                if (!wanted.isEmpty()) {
+                    matches.and(skills.get(wanted));
+                }
+            }
+        }
+
+        // Amounts are only comparable within one currency; unpaid postings are free in any
+        Integer minStipend = StipendParser.parseMonthlyAmount(request.getMinStipend());
+        Integer maxStipend = StipendParser.parseMonthlyAmount(request.getMaxStipend());
+        if (minStipend != null || maxStipend != null) {
+            matches.and(stipends.range(minStipend, maxStipend));
+            matches.andNot(otherCurrencies(request));
+        }
+
+        if (request.getDuration() != null && !request.getDuration().isEmpty()) {
+            matches.and(durations.get(SearchTokenizer.normalize(request.getDuration())));
+        }
+
+        if (request.getActiveOnly() != null && request.getActiveOnly()) {
+            matches.and(deadlines.range((int) LocalDate.now().toEpochDay(), null));
+        }
+
+        // Company and industry both resolve to company ids first; an unknown value matches nothing
+        if (request.getCompanyName() != null && !request.getCompanyName().isBlank()) {
+            matches.and(ofCompanies(companyDirectory.idsByName(request.getCompanyName())));
+        }
+        if (request.getIndustry() != null && !request.getIndustry().isBlank()) {
+            matches.and(ofCompanies(companyDirectory.idsByIndustry(request.getIndustry())));
+        }
+    }
+
+    private CompactBitmap ofCompanies(Set<Long> ids) {
+        CompactBitmap union = new CompactBitmap();
+        for (Long id : ids) {
+            union.or(companyIds.get(String.valueOf(id)));
+        }
+        return union;
+    }
+
+    // Stipends priced in any currency but the requested one
+    private CompactBitmap otherCurrencies(SearchRequestDTO request) {
+        String currency = StipendParser.requestedCurrency(request.getStipendCurrency());
+        return stipendCurrencies.union(value -> !value.equals(currency));
+    }
+
+    // Stipend buckets are counted within the requested currency, like the stipend range
+    private Map<String, List<FacetCountDTO>> facets(CompactBitmap matches, SearchRequestDTO request) {
+        CompactBitmap inCurrency = matches.copy();
+        inCurrency.andNot(otherCurrencies(request));
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        facets.put(IndexSearchResult.SKILLS_FACET, skills.counts(matches, FACET_VALUES));
+        facets.put(IndexSearchResult.LOCATION_FACET, locations.counts(matches, FACET_VALUES));
+        facets.put(IndexSearchResult.DURATION_FACET, durations.counts(matches, FACET_VALUES));
+        facets.put(IndexSearchResult.STIPEND_FACET, stipendBuckets.counts(inCurrency, FACET_VALUES));
+        facets.put(IndexSearchResult.COMPANY_FACET, companies.counts(matches, FACET_VALUES));
+        return facets;
+    }
+
+    // Terms starting with the token, weighted by how much of the term it covers (1 for the exact term)
+    private Map<String, Float> prefixTerms(String token) {
+        Map<String, Float> terms = new HashMap<>();
+        for (String term : postings.subMap(token, true, token + Character.MAX_VALUE, false).keySet()) {
+            terms.put(term, (float) token.length() / term.length());
+        }
+        return terms;
+    }
+
+    private Map<String, Float> fuzzyTerms(String token) {
+        // Trigrams carry no signal for one or two characters, so short tokens stay prefix matches
+        if (token.length() < 3) {
+            Map<String, Float> prefixed = new HashMap<>();
+            for (Map.Entry<String, TermPostings> entry
+                    : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                if (entry.getValue().isFuzzyMatched()) {
+                    prefixed.put(entry.getKey(), (float) token.length() / entry.getKey().length());
+                }
+            }
+            return prefixed;
+        }
+        return trigramIndex.match(token);
+    }
+
+    private int add(InternshipDocument document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.internshipId(), ordinal);
+        fieldLengths.add(null);
+        live.add(ordinal);
+        post(ordinal, document);
+        return ordinal;
+    }
+
+    private void post(int ordinal, InternshipDocument document) {
+        int[] lengths = new int[SearchField.values().length];
+        for (SearchField field : SearchField.values()) {
+            List<String> tokens = SearchTokenizer.tokenize(field.text(document));
+            lengths[field.ordinal()] = tokens.size();
+            totalFieldLengths[field.ordinal()] += tokens.size();
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String term : tokens) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                TermPostings termPostings = postings.computeIfAbsent(term.getKey(), t -> new TermPostings());
+                boolean wasFuzzyMatched = termPostings.isFuzzyMatched();
+                termPostings.set(field, ordinal, term.getValue());
+                if (!wasFuzzyMatched && field.isFuzzyMatched()) {
+                    trigramIndex.add(term.getKey());
+                }
+            }
+        }
+        fieldLengths.set(ordinal, lengths);
+
+        locations.add(locationValue(document), ordinal);
+        rawLocations.add(SearchTokenizer.normalize(document.location()), ordinal);
+        durations.add(SearchTokenizer.normalize(document.duration()), ordinal);
+        companies.add(SearchTokenizer.normalize(document.companyName()), ordinal);
+        companyIds.add(companyValue(document), ordinal);
+        stipendBuckets.add(StipendParser.bucketOf(document.stipendAmount(), document.stipendCurrency()), ordinal);
+        stipendCurrencies.add(currencyValue(document), ordinal);
+        for (String skill : skillValues(document)) {
+            skills.add(skill, ordinal);
+        }
+    }
+
+    private void unpost(int ordinal, InternshipDocument document) {
+        int[] lengths = fieldLengths.get(ordinal);
+        for (SearchField field : SearchField.values()) {
+            totalFieldLengths[field.ordinal()] -= lengths[field.ordinal()];
+            for (String term : new HashSet<>(SearchTokenizer.tokenize(field.text(document)))) {
+                TermPostings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                boolean wasFuzzyMatched = termPostings.isFuzzyMatched();
+                termPostings.clear(field, ordinal);
+                if (wasFuzzyMatched && !termPostings.isFuzzyMatched()) {
+                    trigramIndex.remove(term);
+                }
+                if (termPostings.any.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        locations.remove(locationValue(document), ordinal);
+        rawLocations.remove(SearchTokenizer.normalize(document.location()), ordinal);
+        durations.remove(SearchTokenizer.normalize(document.duration()), ordinal);
+        companies.remove(SearchTokenizer.normalize(document.companyName()), ordinal);
+        companyIds.remove(companyValue(document), ordinal);
+        stipendBuckets.remove(StipendParser.bucketOf(document.stipendAmount(), document.stipendCurrency()), ordinal);
+        stipendCurrencies.remove(currencyValue(document), ordinal);
+        for (String skill : skillValues(document)) {
+            skills.remove(skill, ordinal);
+        }
+    }
+
+    // Numeric values live in sorted arrays; they are maintained apart from post() so a rebuild can bulk-load them
+    private void sort(int ordinal, InternshipDocument document) {
+        if (document.stipendAmount() != null) {
+            stipends.add(document.stipendAmount(), ordinal);
+        } else {
+            noStipend.add(ordinal);
+        }
+        if (document.deadline() != null) {
+            deadlines.add((int) document.deadline().toEpochDay(), ordinal);
+        } else {
+            noDeadline.add(ordinal);
+        }
+    }
+
+    private void unsort(int ordinal, InternshipDocument document) {
+        if (document.stipendAmount() != null) {
+            stipends.remove(document.stipendAmount(), ordinal);
+        } else {
+            noStipend.remove(ordinal);
+        }
+        if (document.deadline() != null) {
+            deadlines.remove((int) document.deadline().toEpochDay(), ordinal);
+        } else {
+            noDeadline.remove(ordinal);
+        }
+    }
+
+    // Spellings of a known place share its canonical value; other locations stay as written
+    private String locationValue(InternshipDocument document) {
+        return gazetteer.resolve(document.location())
+                .map(Gazetteer.Place::key)
+                .orElseGet(() -> SearchTokenizer.normalize(document.location()));
+    }
+
+    private static String currencyValue(InternshipDocument document) {
+        return document.stipendCurrency() != null ? document.stipendCurrency() : "";
+    }
+
+    private static String companyValue(InternshipDocument document) {
+        return document.companyId() != null ? String.valueOf(document.companyId()) : "";
+    }
+
+    private static Set<String> skillValues(InternshipDocument document) {
+        Set<String> values = new HashSet<>();
+        if (document.skillsRequired() != null) {
+            for (String skill : document.skillsRequired().split(",")) {
+                String value = SearchTokenizer.normalize(skill);
+                if (!value.isEmpty()) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    // Scores of the matches, values[rank] belonging to the rank-th smallest matching ordinal
+    private record MatchScores(int[] ordinals, float[] values) {
+
+        float of(int ordinal) {
+            return values[Arrays.binarySearch(ordinals, ordinal)];
+        }
+    }
+
+    // Postings of a single term, per field and across all fields. Nearly every term occurs once per field,
+    // so only larger frequencies are stored, keyed by ordinal and field.
+    private static class TermPostings {
+
+        private static final int FIELDS = SearchField.values().length;
+
+        private final Map<SearchField, CompactBitmap> byField = new EnumMap<>(SearchField.class);
+        private final CompactBitmap any = new CompactBitmap();
+        private final Map<Integer, Integer> repeats = new HashMap<>();
+
+        void set(SearchField field, int ordinal, int frequency) {
+            byField.computeIfAbsent(field, f -> new CompactBitmap()).add(ordinal);
+            any.add(ordinal);
+            if (frequency > 1) {
+                repeats.put(ordinal * FIELDS + field.ordinal(), frequency);
+            }
+        }
+
+        int frequency(SearchField field, int ordinal) {
+            return repeats.isEmpty() ? 1 : repeats.getOrDefault(ordinal * FIELDS + field.ordinal(), 1);
+        }
+
+        void clear(SearchField field, int ordinal) {
+            repeats.remove(ordinal * FIELDS + field.ordinal());
+            CompactBitmap bits = byField.get(field);
+            if (bits != null) {
+                bits.remove(ordinal);
+                if (bits.isEmpty()) {
+                    byField.remove(field);
+                }
+            }
+            for (CompactBitmap remaining : byField.values()) {
+                if (remaining.contains(ordinal)) {
+                    return;
+                }
+            }
+            any.remove(ordinal);
+        }
+
+        boolean isFuzzyMatched() {
+            for (SearchField field : byField.keySet()) {
+                if (field.isFuzzyMatched()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        CompactBitmap fuzzyMatched() {
+            CompactBitmap bits = new CompactBitmap();
+            for (Map.Entry<SearchField, CompactBitmap> entry : byField.entrySet()) {
+                if (entry.getKey().isFuzzyMatched()) {
+                    bits.or(entry.getValue());
+                }
+            }
+            return bits;
+        }
+    }
+}
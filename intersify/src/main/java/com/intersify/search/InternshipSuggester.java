@@ -0,0 +1,137 @@
+package com.intersify.search;
+
+import com.intersify.dto.SuggestionDTO;
+import com.intersify.enums.SuggestionType;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Typeahead over internship titles, skills, locations and company names, weighted by how many
+ * internships carry each value. Kept in step with InternshipSearchIndex, so it never queries the database.
+ */
+@Component
+public class InternshipSuggester {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<SuggestionType, SuggestionTrie> tries = new EnumMap<>(SuggestionType.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InternshipSuggester() {
+        for (SuggestionType type : SuggestionType.values()) {
+            tries.put(type, new SuggestionTrie(MAX_SUGGESTIONS));
+        }
+    }
+
+    @EventListener
+    public void onIndexRebuilt(InternshipIndexRebuiltEvent event) {
+        lock.writeLock().lock();
+        try {
+            tries.values().forEach(SuggestionTrie::clear);
+            for (InternshipDocument document : event.documents()) {
+                apply(document, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onInternshipIndexed(InternshipIndexedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.previous() != null) {
+                apply(event.previous(), -1);
+            }
+            if (event.current() != null) {
+                apply(event.current(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Top completions for the prefix across all types (or only the given one), most frequent first
+    public List<SuggestionDTO> suggest(String prefix, SuggestionType type, int limit) {
+        String key = normalize(prefix);
+        int bounded = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<SuggestionType, SuggestionTrie> entry : tries.entrySet()) {
+                if (type != null && type != entry.getKey()) {
+                    continue;
+                }
+                // Titles and company names are also reachable from inner words, so the same
+                // phrase can complete more than one key; keep it once
+                Set<String> seen = new HashSet<>();
+                for (SuggestionTrie.Completion completion : entry.getValue().complete(key, MAX_SUGGESTIONS)) {
+                    if (seen.add(completion.text())) {
+                        suggestions.add(new SuggestionDTO(completion.text(), entry.getKey(), completion.weight()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        suggestions.sort(Comparator.comparingInt(SuggestionDTO::getCount).reversed());
+        return suggestions.size() > bounded ? suggestions.subList(0, bounded) : suggestions;
+    }
+
+    private void apply(InternshipDocument document, int delta) {
+        addWordSuffixes(tries.get(SuggestionType.TITLE), document.title(), delta);
+        addWordSuffixes(tries.get(SuggestionType.COMPANY), document.companyName(), delta);
+        add(tries.get(SuggestionType.LOCATION), document.location(), delta);
+        if (document.skillsRequired() != null) {
+            // A posting that repeats a skill still counts once
+            Set<String> skills = new HashSet<>();
+            for (String skill : document.skillsRequired().split(",")) {
+                if (skills.add(normalize(skill))) {
+                    add(tries.get(SuggestionType.SKILL), skill, delta);
+                }
+            }
+        }
+    }
+
+    private static void add(SuggestionTrie trie, String value, int delta) {
+        String key = normalize(value);
+        if (!key.isEmpty()) {
+            trie.adjust(key, key, value.trim(), delta);
+        }
+    }
+
+    // "Java Backend Intern" is suggested for "ja", "back" and "int". Each inner-word suffix is one key;
+    // phrases sharing a suffix ("Backend Intern" in many titles) are kept apart on that key's node.
+    private static void addWordSuffixes(SuggestionTrie trie, String value, int delta) {
+        String key = normalize(value);
+        if (key.isEmpty()) {
+            return;
+        }
+        String display = value.trim();
+        trie.adjust(key, key, display, delta);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            trie.adjust(key.substring(i + 1), key, display, delta);
+        }
+    }
+
+    private static String normalize(String value) {
+        return WHITESPACE.matcher(SearchTokenizer.normalize(value)).replaceAll(" ");
+    }
+}
@@ -0,0 +1,70 @@
+package com.intersify.search;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Skill, location and company popularity, maintained from index changes instead of table scans
+@Component
+public class PopularityCounters {
+
+    private final TopKCounter skills = new TopKCounter(20);
+    private final TopKCounter locations = new TopKCounter(15);
+    private final TopKCounter companies = new TopKCounter(20);
+
+    public List<String> popularSkills() {
+        return skills.top();
+    }
+
+    public List<String> popularLocations() {
+        return locations.top();
+    }
+
+    public List<String> popularCompanies() {
+        return companies.top();
+    }
+
+    @EventListener
+    public synchronized void onIndexRebuilt(InternshipIndexRebuiltEvent event) {
+        skills.clear();
+        locations.clear();
+        companies.clear();
+        for (InternshipDocument document : event.documents()) {
+            apply(document, 1);
+        }
+    }
+
+    @EventListener
+    public synchronized void onInternshipIndexed(InternshipIndexedEvent event) {
+        if (event.previous() != null) {
+            apply(event.previous(), -1);
+        }
+        if (event.current() != null) {
+            apply(event.current(), 1);
+        }
+    }
+
+    private void apply(InternshipDocument document, int delta) {
+        if (document.skillsRequired() != null) {
+            Set<String> distinct = new HashSet<>();
+            for (String skill : document.skillsRequired().split(",")) {
+                String key = SearchTokenizer.normalize(skill);
+                if (!key.isEmpty() && distinct.add(key)) {
+                    skills.adjust(key, delta);
+                }
+            }
+        }
+        adjust(locations, document.location(), delta);
+        adjust(companies, document.companyName(), delta);
+    }
+
+    private static void adjust(TopKCounter counter, String value, int delta) {
+        String key = SearchTokenizer.normalize(value);
+        if (!key.isEmpty()) {
+            counter.adjust(key, delta);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.intersify.search;
+
+import com.intersify.enums.SearchSortField;
+import com.intersify.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Continuation token of keyset pagination: the order it was taken in, and the sort key and id of the
+ * last row served. Clients treat the encoded form as opaque and send it back unchanged for the next page;
+ * a token taken in another order is rejected rather than read as a key it never was.
+ */
+public record SearchCursor(String scope, Long key, long internshipId) {
+
+    // Deadline, stipend and recency pages agree between the index and the database; relevance keys are
+    // scores in the index and absent in the database, so they are only valid on the path that issued them
+    public static String scopeOf(SearchOrder order, boolean indexed) {
+        String scope = order.field().name().toLowerCase(Locale.ROOT) + "-" + (order.descending() ? "desc" : "asc");
+        return order.field() == SearchSortField.RELEVANCE ? scope + (indexed ? "-index" : "-database") : scope;
+    }
+
+    public String encode() {
+        String raw = scope + ":" + (key == null ? "" : key.toString()) + ":" + internshipId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Null or blank means the first page
+    public static SearchCursor decode(String token, String expectedScope) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8).split(":", -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+        if (parts.length != 3) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+        if (!parts[0].equals(expectedScope)) {
+            throw new InvalidRequestException("Pagination cursor was issued for a different sort order");
+        }
+        try {
+            return new SearchCursor(parts[0], parts[1].isEmpty() ? null : Long.valueOf(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+}
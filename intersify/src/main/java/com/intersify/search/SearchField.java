@@ -0,0 +1,42 @@
+package com.intersify.search;
+
+public enum SearchField {
+    TITLE,
+    COMPANY,
+    LOCATION,
+    SKILLS;
+
+    public String text(InternshipDocument document) {
+        switch (this) {
+            case TITLE:
+                return document.title();
+            case COMPANY:
+                return document.companyName();
+            case LOCATION:
+                return document.location();
+            case SKILLS:
+                return document.skillsRequired();
+            default:
+                return null;
+        }
+    }
+
+    // Relevance weight of a match in this field: a title hit says far more than a location hit
+    public float boost() {
+        switch (this) {
+            case TITLE:
+                return 3.0f;
+            case SKILLS:
+                return 2.0f;
+            case COMPANY:
+                return 1.5f;
+            default:
+                return 0.5f;
+        }
+    }
+
+    // Fields whose vocabulary takes part in substring / typo-tolerant matching
+    public boolean isFuzzyMatched() {
+        return this != LOCATION;
+    }
+}
@@ -0,0 +1,36 @@
+package com.intersify.search;
+
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.enums.SearchSortField;
+import com.intersify.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * Result order resolved from the free-form sortBy/sortDirection of a search request.
+ * Without sortBy, keyword searches rank by relevance (so fuzzy matches come best first) and
+ * filter-only searches by deadline. Ties are broken on internship id in the same direction;
+ * relevance is always best first.
+ */
+public record SearchOrder(SearchSortField field, boolean descending) {
+
+    public static SearchOrder of(SearchRequestDTO request) {
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        SearchSortField field = hasKeyword ? SearchSortField.RELEVANCE : SearchSortField.DEADLINE;
+        if (request.getSortBy() != null && !request.getSortBy().isBlank()) {
+            try {
+                field = SearchSortField.valueOf(request.getSortBy().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported sortBy: " + request.getSortBy());
+            }
+        }
+        if (field == SearchSortField.RELEVANCE) {
+            return new SearchOrder(field, true);
+        }
+        String direction = request.getSortDirection();
+        boolean descending = direction == null || direction.isBlank()
+                ? field == SearchSortField.RECENCY
+                : "DESC".equalsIgnoreCase(direction.trim());
+        return new SearchOrder(field, descending);
+    }
+}
@@ -0,0 +1,80 @@
+package com.intersify.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.dto.SearchResultDTO;
+import com.intersify.enums.SearchMatchMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * Results of recent searches, keyed on the canonical form of the request and the index version it
+ * was answered from. Any internship write bumps the version, so stale entries are never hit and
+ * simply age out. Caffeine's W-TinyLFU admission keeps the few hot queries resident while one-off
+ * queries compete for the rest of the space.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final long MAX_ENTRIES = 5_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final Cache<Key, SearchResultDTO> results;
+
+    public SearchResultCache(MeterRegistry meterRegistry) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "search-results");
+    }
+
+    public SearchResultDTO get(Key key) {
+        return results.getIfPresent(key);
+    }
+
+    public void put(Key key, SearchResultDTO result) {
+        results.put(key, result);
+    }
+
+    // Requests that can only produce the same result map to the same key
+    public static Key keyOf(SearchRequestDTO request, SearchOrder order, long version) {
+        return new Key(version,
+                String.join(" ", SearchTokenizer.tokenize(request.getKeyword())),
+                request.getMatchMode() != null ? request.getMatchMode() : SearchMatchMode.EXACT,
+                SearchTokenizer.normalize(request.getLocation()),
+                request.getRadiusKm(),
+                // Already canonicalised by SearchService; only the order is irrelevant
+                request.getSkills() != null
+                        ? String.join(",", new TreeSet<>(Arrays.asList(request.getSkills().split(","))))
+                        : "",
+                StipendParser.parseMonthlyAmount(request.getMinStipend()),
+                StipendParser.parseMonthlyAmount(request.getMaxStipend()),
+                StipendParser.requestedCurrency(request.getStipendCurrency()),
+                SearchTokenizer.normalize(request.getDuration()),
+                // "Active" is relative to today, so such results must not outlive the day
+                Boolean.TRUE.equals(request.getActiveOnly()) ? LocalDate.now() : null,
+                SearchTokenizer.normalize(request.getCompanyName()),
+                SearchTokenizer.normalize(request.getIndustry()),
+                order,
+                request.getCursor(),
+                request.getCursor() != null ? 0 : request.getPage(),
+                request.getSize(),
+                Boolean.TRUE.equals(request.getIncludeTotal()),
+                Boolean.TRUE.equals(request.getHitsOnly()));
+    }
+
+    public record Key(long version, String keyword, SearchMatchMode matchMode, String location, Double radiusKm,
+            String skills, Integer minStipend, Integer maxStipend, String stipendCurrency, String duration,
+            LocalDate activeOn, String companyName, String industry, SearchOrder order, String cursor, int page,
+            int size, boolean includeTotal, boolean hitsOnly) {
+    }
+}
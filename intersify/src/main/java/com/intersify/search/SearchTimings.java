@@ -0,0 +1,60 @@
+package com.intersify.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stage stopwatch of a single search. Each lap closes the stage that has been running since
+ * the previous lap, so stages recorded by SearchService and the index line up end to end.
+ * Not thread-safe; one instance per request.
+ */
+public class SearchTimings {
+
+    public static final String METRIC = "intersify.search.stage";
+
+    private final long start = System.nanoTime();
+    private final Map<String, Long> stages = new LinkedHashMap<>();
+    private long lapStart = start;
+
+    // Closes the running stage under the given name
+    public void lap(String stage) {
+        long now = System.nanoTime();
+        add(stage, now - lapStart);
+        lapStart = now;
+    }
+
+    // Records time measured elsewhere, e.g. nested inside another stage
+    public void add(String stage, long elapsedNanos) {
+        stages.merge(stage, elapsedNanos, Long::sum);
+    }
+
+    public boolean has(String stage) {
+        return stages.containsKey(stage);
+    }
+
+    public int totalMillis() {
+        return (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    // Stage -> elapsed microseconds, in the order the stages ran
+    public Map<String, Long> micros() {
+        Map<String, Long> micros = new LinkedHashMap<>();
+        stages.forEach((stage, nanos) -> micros.put(stage, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        return micros;
+    }
+
+    // One latency histogram per stage, tagged with the path (index or database) that served the search
+    public void publish(MeterRegistry registry, String path) {
+        stages.forEach((stage, nanos) -> Timer.builder(METRIC)
+                .description("Time spent per internship search stage")
+                .tag("stage", stage)
+                .tag("path", path)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,64 @@
+package com.intersify.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller computes, callers arriving while it
+ * runs wait for and share its result (or exception). Nothing is kept once the call completes.
+ * Calls are counted per role, so followers / (leaders + followers) is the coalescing ratio.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(MeterRegistry registry, String name) {
+        this.leaders = Counter.builder(name).tag("role", "leader").register(registry);
+        this.followers = Counter.builder(name).tag("role", "follower").register(registry);
+        registry.gaugeMapSize(name + ".in_flight", Tags.empty(), calls);
+    }
+
+    public Result<V> execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            followers.increment();
+            return new Result<>(await(inFlight), true);
+        }
+        leaders.increment();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, mine);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // shared is true when the value was computed by another caller
+    public record Result<V>(V value, boolean shared) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.intersify.search;
+
+import java.util.Arrays;
+
+/**
+ * Ordinals kept sorted by an int key (stipend amount, deadline epoch day), so a range filter is
+ * two binary searches. Each entry packs key and ordinal into one long, which makes the natural
+ * long order the (key, ordinal) order and lets a full load be a single primitive sort.
+ * Not thread-safe; InternshipSearchIndex guards it with its own lock.
+ */
+class SortedValueIndex {
+
+    private long[] entries = new long[16];
+    private int size;
+
+    void add(int key, int ordinal) {
+        long entry = pack(key, ordinal);
+        int index = Arrays.binarySearch(entries, 0, size, entry);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        System.arraycopy(entries, index, entries, index + 1, size - index);
+        entries[index] = entry;
+        size++;
+    }
+
+    void remove(int key, int ordinal) {
+        int index = Arrays.binarySearch(entries, 0, size, pack(key, ordinal));
+        if (index >= 0) {
+            System.arraycopy(entries, index + 1, entries, index, size - index - 1);
+            size--;
+        }
+    }
+
+    // Replaces the content in one pass; used when the whole index is rebuilt
+    void load(int[] keys, int[] ordinals, int count) {
+        entries = new long[Math.max(16, count)];
+        for (int i = 0; i < count; i++) {
+            entries[i] = pack(keys[i], ordinals[i]);
+        }
+        Arrays.sort(entries, 0, count);
+        size = count;
+    }
+
+    void clear() {
+        entries = new long[16];
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int keyAt(int position) {
+        return (int) (entries[position] >> 32);
+    }
+
+    int ordinalAt(int position) {
+        return (int) entries[position];
+    }
+
+    // Ordinals whose key lies within [min, max]; either bound may be null
+    CompactBitmap range(Integer min, Integer max) {
+        int from = min == null ? 0 : lowerBound(min);
+        int to = max == null ? size : upperBound(max);
+        // Ordinals come in key order, which is no order at all; one sorted insert each would dominate the filter
+        int[] ordinals = new int[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            ordinals[i - from] = ordinalAt(i);
+        }
+        return CompactBitmap.of(ordinals, ordinals.length);
+    }
+
+    // First position whose key is >= key
+    int lowerBound(int key) {
+        int index = Arrays.binarySearch(entries, 0, size, pack(key, 0));
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // First position whose key is > key
+    int upperBound(int key) {
+        int index = Arrays.binarySearch(entries, 0, size, pack(key, Integer.MAX_VALUE));
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // The key takes the signed high half and the (non-negative) ordinal the low half
+    private static long pack(int key, int ordinal) {
+        return (long) key << 32 | ordinal;
+    }
+}
@@ -0,0 +1,121 @@
+package com.intersify.search;
+
+import com.intersify.exception.InvalidRequestException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Best-effort reading of the free-text stipend ("15,000/month", "12k", "1.5 lakh per annum", "Unpaid")
+// as a monthly amount
+public final class StipendParser {
+
+    public static final String DEFAULT_CURRENCY = "INR";
+
+    // Upper bounds of the facet buckets below the open-ended top one, per currency
+    private static final Map<String, int[]> BUCKETS = Map.of(
+            "INR", new int[] {5000, 10000, 20000},
+            "USD", new int[] {500, 1000, 2000},
+            "EUR", new int[] {500, 1000, 2000},
+            "GBP", new int[] {500, 1000, 2000});
+
+    private static final Pattern AMOUNT =
+            Pattern.compile("(\\d[\\d,]*(?:\\.\\d+)?)\\s*(k\\b|lakhs?\\b|lacs?\\b|lpa\\b)?");
+    private static final Pattern USD = Pattern.compile("\\$|\\busd\\b|\\bdollars?\\b");
+    private static final Pattern EUR = Pattern.compile("€|\\beur\\b|\\beuros?\\b");
+    private static final Pattern GBP = Pattern.compile("£|\\bgbp\\b|\\bpounds?\\b");
+
+    private StipendParser() {
+    }
+
+    // The first amount wins, so a range such as "10k-15k" reads as its lower bound: a minStipend filter then
+    // only matches postings that guarantee it. Null when no amount is found, or when a non-zero amount would
+    // round to nothing a month, so a paid posting is never taken for an unpaid one.
+    public static Integer parseMonthlyAmount(String stipend) {
+        if (stipend == null || stipend.isBlank()) {
+            return null;
+        }
+        String text = stipend.toLowerCase(Locale.ROOT);
+        if (text.contains("unpaid")) {
+            return 0;
+        }
+        Matcher matcher = AMOUNT.matcher(text);
+        if (!matcher.find()) {
+            return null;
+        }
+        double amount = Double.parseDouble(matcher.group(1).replace(",", ""));
+        String unit = matcher.group(2);
+        if ("k".equals(unit)) {
+            amount *= 1000;
+        } else if (unit != null) {
+            // lakh, lac and LPA (lakhs per annum): 100,000
+            amount *= 100_000;
+        }
+        if (text.contains("week")) {
+            amount = amount * 52 / 12;
+        } else if ("lpa".equals(unit) || text.contains("year") || text.contains("annum")) {
+            amount = amount / 12;
+        }
+        long monthly = Math.round(amount);
+        if (monthly == 0 && amount > 0) {
+            return null;
+        }
+        return (int) Math.min(monthly, Integer.MAX_VALUE);
+    }
+
+    // ISO code of the stipend currency; anything not marked as dollars, euros or pounds is rupees. Null when there is no amount.
+    public static String parseCurrency(String stipend) {
+        Integer amount = parseMonthlyAmount(stipend);
+        if (amount == null || amount == 0) {
+            return null;
+        }
+        String text = stipend.toLowerCase(Locale.ROOT);
+        if (USD.matcher(text).find()) {
+            return "USD";
+        }
+        if (EUR.matcher(text).find()) {
+            return "EUR";
+        }
+        if (GBP.matcher(text).find()) {
+            return "GBP";
+        }
+        return DEFAULT_CURRENCY;
+    }
+
+    // Currency a stipend range is given in: INR unless the request names one of the parsed currencies
+    public static String requestedCurrency(String currency) {
+        if (currency == null || currency.isBlank()) {
+            return DEFAULT_CURRENCY;
+        }
+        String code = currency.trim().toUpperCase(Locale.ROOT);
+        if (!BUCKETS.containsKey(code)) {
+            throw new InvalidRequestException("Unsupported stipendCurrency: " + currency);
+        }
+        return code;
+    }
+
+    // Facet bucket of a monthly amount, with bounds that suit its currency
+    public static String bucketOf(Integer monthlyAmount, String currency) {
+        if (monthlyAmount == null) {
+            return "Not disclosed";
+        }
+        if (monthlyAmount == 0) {
+            return "Unpaid";
+        }
+        int[] bounds = BUCKETS.getOrDefault(currency, BUCKETS.get(DEFAULT_CURRENCY));
+        if (monthlyAmount < bounds[0]) {
+            return "Below " + shortAmount(bounds[0]);
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (monthlyAmount < bounds[i]) {
+                return shortAmount(bounds[i - 1]) + " - " + shortAmount(bounds[i]);
+            }
+        }
+        return shortAmount(bounds[bounds.length - 1]) + "+";
+    }
+
+    private static String shortAmount(int amount) {
+        return amount >= 1000 && amount % 1000 == 0 ? amount / 1000 + "k" : String.valueOf(amount);
+    }
+}
@@ -0,0 +1,106 @@
+package com.intersify.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie of weighted phrases. A key's node holds every phrase stored under it, so phrases
+ * reachable from a shared key (an inner word of several titles) share one path. Every node caches
+ * its best completions, so a lookup costs one walk down the prefix and never visits the subtree below it.
+ * Not thread-safe; InternshipSuggester guards it with its own lock.
+ */
+class SuggestionTrie {
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator
+            .comparingInt(Entry::weight).reversed()
+            .thenComparing(Entry::display);
+
+    private final int maxCompletions;
+    private final Node root = new Node();
+
+    SuggestionTrie(int maxCompletions) {
+        this.maxCompletions = maxCompletions;
+    }
+
+    // Adjusts the weight of a phrase under the key; the phrase is identified by its normalised form
+    // and shown with the display text it was first stored with
+    void adjust(String key, String phrase, String display, int delta) {
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+
+        Entry entry = node.phrases.get(phrase);
+        int weight = Math.max(0, (entry != null ? entry.weight() : 0) + delta);
+        if (weight == 0) {
+            node.phrases.remove(phrase);
+        } else {
+            node.phrases.put(phrase, new Entry(entry != null ? entry.display() : display, weight));
+        }
+
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.phrases.isEmpty() && current.children.isEmpty()) {
+                path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                continue;
+            }
+            current.top = collectTop(current);
+        }
+    }
+
+    List<Completion> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Completion> completions = new ArrayList<>(Math.min(limit, node.top.size()));
+        for (Entry completion : node.top) {
+            if (completions.size() == limit) {
+                break;
+            }
+            completions.add(new Completion(completion.display(), completion.weight()));
+        }
+        return completions;
+    }
+
+    void clear() {
+        root.children.clear();
+        root.top = List.of();
+    }
+
+    private List<Entry> collectTop(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.phrases.values());
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(BY_WEIGHT);
+        return candidates.size() > maxCompletions
+                ? List.copyOf(candidates.subList(0, maxCompletions))
+                : List.copyOf(candidates);
+    }
+
+    record Completion(String text, int weight) {
+    }
+
+    private record Entry(String display, int weight) {
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // normalised phrase -> its display text and weight under this node's key
+        private final Map<String, Entry> phrases = new HashMap<>();
+        private List<Entry> top = List.of();
+    }
+}
@@ -0,0 +1,91 @@
+package com.intersify.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Frequency counter that keeps its keys ordered by count. Updates only mark the top K stale;
+ * the first read after them re-reads it in O(K) and serves it as an immutable snapshot, so a
+ * bulk rebuild pays for one refresh instead of one per update.
+ */
+public class TopKCounter {
+
+    private static final Comparator<Count> BY_COUNT = Comparator
+            .comparingLong((Count count) -> count.value).reversed()
+            .thenComparing(count -> count.key);
+
+    private final int k;
+    private final Map<String, Count> counts = new HashMap<>();
+    private final TreeSet<Count> ordered = new TreeSet<>(BY_COUNT);
+
+    private volatile List<String> top = List.of();
+    private volatile boolean stale;
+
+    public TopKCounter(int k) {
+        this.k = k;
+    }
+
+    public List<String> top() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    refreshTop();
+                    stale = false;
+                }
+            }
+        }
+        return top;
+    }
+
+    public synchronized void adjust(String key, long delta) {
+        Count count = counts.get(key);
+        if (count == null) {
+            if (delta <= 0) {
+                return;
+            }
+            count = new Count(key);
+            counts.put(key, count);
+        } else {
+            ordered.remove(count);
+        }
+
+        count.value += delta;
+        if (count.value > 0) {
+            ordered.add(count);
+        } else {
+            counts.remove(key);
+        }
+        stale = true;
+    }
+
+    public synchronized void clear() {
+        counts.clear();
+        ordered.clear();
+        top = List.of();
+        stale = false;
+    }
+
+    private void refreshTop() {
+        List<String> snapshot = new ArrayList<>(k);
+        for (Count count : ordered) {
+            if (snapshot.size() == k) {
+                break;
+            }
+            snapshot.add(count.key);
+        }
+        top = List.copyOf(snapshot);
+    }
+
+    private static class Count {
+        private final String key;
+        private long value;
+
+        Count(String key) {
+            this.key = key;
+        }
+    }
+}
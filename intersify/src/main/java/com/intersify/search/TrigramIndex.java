@@ -0,0 +1,126 @@
+package com.intersify.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps character trigrams to the index terms containing them, so that partial and misspelt
+ * query tokens only have to be compared against terms sharing at least one trigram.
+ * Not thread-safe; InternshipSearchIndex guards it with its own lock.
+ */
+class TrigramIndex {
+
+    private static final char PAD = '$';
+
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    void add(String term) {
+        for (String trigram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+        }
+    }
+
+    void remove(String term) {
+        for (String trigram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        termsByTrigram.clear();
+    }
+
+    // Returns the terms that contain the token or are within a small edit distance of it,
+    // scored by the Jaccard overlap of their trigram sets
+    Map<String, Float> match(String token) {
+        Set<String> queryTrigrams = trigrams(token);
+        Map<String, Integer> overlaps = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                for (String term : terms) {
+                    overlaps.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+
+        int maxEdits = token.length() <= 5 ? 1 : 2;
+        // A single edit can destroy at most three trigrams
+        int minOverlap = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+
+        Map<String, Float> matches = new HashMap<>();
+        for (Map.Entry<String, Integer> candidate : overlaps.entrySet()) {
+            String term = candidate.getKey();
+            int overlap = candidate.getValue();
+            if (overlap < minOverlap && !term.contains(token)) {
+                continue;
+            }
+            if (term.contains(token) || withinEdits(token, term, maxEdits)) {
+                int union = queryTrigrams.size() + trigrams(term).size() - overlap;
+                matches.put(term, (float) overlap / union);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean withinEdits(String token, String term, int maxEdits) {
+        if (editDistance(token, term, maxEdits) <= maxEdits) {
+            return true;
+        }
+        // Also accept a typo in what is still only the beginning of the term
+        return term.length() > token.length()
+                && editDistance(token, term.substring(0, token.length()), maxEdits) <= maxEdits;
+    }
+
+    // Edit distance counting adjacent transpositions ("jaav" -> "java") as one edit;
+    // gives up as soon as every alignment exceeds the bound
+    static int editDistance(String a, String b, int bound) {
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    static Set<String> trigrams(String term) {
+        String padded = "" + PAD + PAD + term + PAD;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,71 @@
+package com.intersify.search;
+
+import com.intersify.dto.FacetCountDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * One bitmap of document ordinals per distinct value of a structured field (location, duration,
+ * company, skill, stipend bucket). Filters on the field become bitmap unions and facet counts
+ * become intersection cardinalities.
+ * Not thread-safe; InternshipSearchIndex guards it with its own lock.
+ */
+class ValueBitmaps {
+
+    private final Map<String, CompactBitmap> bitmaps = new HashMap<>();
+
+    void add(String value, int ordinal) {
+        if (!value.isEmpty()) {
+            bitmaps.computeIfAbsent(value, v -> new CompactBitmap()).add(ordinal);
+        }
+    }
+
+    void remove(String value, int ordinal) {
+        CompactBitmap bitmap = bitmaps.get(value);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    void clear() {
+        bitmaps.clear();
+    }
+
+    CompactBitmap get(String value) {
+        CompactBitmap bitmap = bitmaps.get(value);
+        return bitmap != null ? bitmap : new CompactBitmap();
+    }
+
+    // Union of the bitmaps of every value accepted by the predicate
+    CompactBitmap union(Predicate<String> accept) {
+        CompactBitmap union = new CompactBitmap();
+        for (Map.Entry<String, CompactBitmap> entry : bitmaps.entrySet()) {
+            if (accept.test(entry.getKey())) {
+                union.or(entry.getValue());
+            }
+        }
+        return union;
+    }
+
+    // The most frequent values within the matched documents, highest count first
+    List<FacetCountDTO> counts(CompactBitmap matches, int limit) {
+        List<FacetCountDTO> counts = new ArrayList<>();
+        for (Map.Entry<String, CompactBitmap> entry : bitmaps.entrySet()) {
+            int count = CompactBitmap.andCardinality(matches, entry.getValue());
+            if (count > 0) {
+                counts.add(new FacetCountDTO(entry.getKey(), count));
+            }
+        }
+        counts.sort((a, b) -> a.getCount() != b.getCount()
+                ? Long.compare(b.getCount(), a.getCount())
+                : a.getValue().compareTo(b.getValue()));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+}
@@ -0,0 +1,37 @@
+package com.intersify.service;
+
+import com.intersify.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Continuation token of a company's applicant listing: the internship being listed and the last
+ * application id served. The kind prefix keeps search and listing cursors from being accepted here.
+ */
+public record ApplicantCursor(long internshipId, long applicationId) {
+
+    private static final String KIND = "applicants";
+
+    public String encode() {
+        String raw = KIND + ":" + internshipId + ":" + applicationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Null or blank means the first page
+    public static ApplicantCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", -1);
+            if (parts.length != 3 || !KIND.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid pagination cursor");
+            }
+            return new ApplicantCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.intersify.service;
 
+import com.intersify.dto.ApplicantSummaryDTO;
 import com.intersify.dto.ApplicationDetailsDTO;
 import com.intersify.dto.ApplicationTrackingDTO;
+import com.intersify.dto.BulkStatusUpdateResultDTO;
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.entity.Application;
 import com.intersify.entity.ApplicationStage;
+import com.intersify.enums.ApplicationStatus;
 
 import java.util.List;
 
@@ -15,10 +19,15 @@ public interface ApplicationService {
 
     List<Application> getApplicationsByInternship(Long internshipId);
 
+    CursorPageDTO<ApplicantSummaryDTO> getApplicantsPage(Long internshipId, Long companyId, ApplicationStatus status,
+            String cursor, int size);
+
     Application updateStatus(Long applicationId, String status, Long userId);
 
     Application updateStatusWithNotes(Long applicationId, String status, String notes, Long userId);
 
+    BulkStatusUpdateResultDTO updateStatusBulk(List<Long> applicationIds, String status, String notes, Long userId);
+
     boolean hasStudentApplied(Long userId, Long internshipId);
 
     ApplicationDetailsDTO getApplicationDetails(Long applicationId, Long companyUserId);
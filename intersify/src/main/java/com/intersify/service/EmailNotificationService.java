@@ -4,10 +4,16 @@ import com.intersify.entity.User;
 import com.intersify.enums.ApplicationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class EmailNotificationService {
@@ -19,6 +25,12 @@ public class EmailNotificationService {
 
     public void sendApplicationStatusUpdateEmail(String toEmail, String studentName, 
             String internshipTitle, String companyName, ApplicationStatus newStatus, String notes) {
+        mailSender.send(applicationStatusUpdateEmail(
+            toEmail, studentName, internshipTitle, companyName, newStatus, notes));
+    }
+
+    public SimpleMailMessage applicationStatusUpdateEmail(String toEmail, String studentName,
+            String internshipTitle, String companyName, ApplicationStatus newStatus, String notes) {
         
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(fromEmail);
@@ -39,7 +51,28 @@ public class EmailNotificationService {
         );
         
         message.setText(emailBody);
-        mailSender.send(message);
+        return message;
+    }
+
+    // Sends the batch over one SMTP connection; returns the messages that failed, with their cause
+    public Map<SimpleMailMessage, Exception> sendAll(List<SimpleMailMessage> messages) {
+        Map<SimpleMailMessage, Exception> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) {
+            return failures;
+        }
+        try {
+            mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.forEach(message -> failures.put(message, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put((SimpleMailMessage) message, cause));
+            }
+        } catch (MailException e) {
+            // Authentication or connection problems fail the whole batch
+            messages.forEach(message -> failures.put(message, e));
+        }
+        return failures;
     }
 
     private String getStatusMessage(ApplicationStatus status) {
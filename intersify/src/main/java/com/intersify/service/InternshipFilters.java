@@ -0,0 +1,158 @@
+package com.intersify.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.entity.Internship;
+import com.intersify.entity.Skill;
+import com.intersify.search.CompanyDirectory;
+import com.intersify.search.Gazetteer;
+
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+
+// The search filters as a JPA Specification, for searches the in-memory index does not answer.
+// InternshipSearchIndex applies the same filters as bitmap intersections; InternshipFiltersTest keeps the two in step.
+@Component
+@RequiredArgsConstructor
+public class InternshipFilters {
+
+    private final SkillNormalizer skillNormalizer;
+    private final Gazetteer gazetteer;
+    private final CompanyDirectory companyDirectory;
+
+    public Specification<Internship> of(SearchRequestDTO request) {
+        Set<String> skillNames = skillNormalizer.canonicalNames(request.getSkills());
+        List<Skill> skills = skillNormalizer.find(skillNames);
+        List<String> placeIds = placeIds(request);
+        Set<Long> companyIds = hasText(request.getCompanyName())
+            ? companyDirectory.idsByName(request.getCompanyName())
+            : null;
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            
+            // Text search
+            if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
+                String keyword = "%" + request.getKeyword().toLowerCase() + "%";
+                Predicate titlePredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("title")), keyword
+                );
+                Predicate companyPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("company").get("companyName")), keyword
+                );
+                Predicate locationPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("location")), keyword
+                );
+                Predicate skillsPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("skillsRequired")), keyword
+                );
+                
+                predicates.add(criteriaBuilder.or(
+                    titlePredicate, companyPredicate, locationPredicate, skillsPredicate
+                ));
+            }
+            
+            // Location filter: a known place matches on the indexed place_id, anything else as a substring
+            if (request.getLocation() != null && !request.getLocation().isEmpty()) {
+                if (placeIds.isEmpty()) {
+                    predicates.add(criteriaBuilder.like(
+                        criteriaBuilder.lower(root.get("location")),
+                        "%" + request.getLocation().toLowerCase() + "%"
+                    ));
+                } else {
+                    predicates.add(root.get("placeId").in(placeIds));
+                }
+            }
+            
+            // Skills filter, as membership in the internship_skill join table; an unknown skill matches nothing
+            if (!skillNames.isEmpty()) {
+                if (skills.size() < skillNames.size()) {
+                    predicates.add(criteriaBuilder.disjunction());
+                }
+                for (Skill skill : skills) {
+                    predicates.add(criteriaBuilder.isMember(skill, root.<Set<Skill>>get("skillSet")));
+                }
+            }
+            
+            // Stipend range, on the parsed monthly amount
+            Integer minStipend = StipendParser.parseMonthlyAmount(request.getMinStipend());
+            if (minStipend != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.get("stipendAmount"), minStipend
+                ));
+            }
+            
+            Integer maxStipend = StipendParser.parseMonthlyAmount(request.getMaxStipend());
+            if (maxStipend != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(
+                    root.get("stipendAmount"), maxStipend
+                ));
+            }
+
+            // Within the requested currency; unpaid postings carry none and match in any
+            if (minStipend != null || maxStipend != null) {
+                predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.equal(root.get("stipendCurrency"), request.getStipendCurrency()),
+                    criteriaBuilder.isNull(root.get("stipendCurrency"))
+                ));
+            }
+            
+            // Duration filter
+            if (request.getDuration() != null && !request.getDuration().isEmpty()) {
+                Predicate durationPredicate = criteriaBuilder.equal(
+                    root.get("duration"), request.getDuration()
+                );
+                predicates.add(durationPredicate);
+            }
+            
+            // Deadline filter (only active internships)
+            if (request.getActiveOnly() != null && request.getActiveOnly()) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
+                    root.get("deadline"), LocalDate.now()
+                ));
+            }
+
+            // Company filter, on the company_id foreign key; an unknown company matches nothing
+            if (companyIds != null) {
+                predicates.add(companyIds.isEmpty()
+                    ? criteriaBuilder.disjunction()
+                    : root.get("company").get("companyId").in(companyIds));
+            }
+
+            // Industry filter, an equality on the indexed company_profile.industry
+            if (hasText(request.getIndustry())) {
+                predicates.add(criteriaBuilder.equal(
+                    root.get("company").get("industry"), request.getIndustry().trim()
+                ));
+            }
+            
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // The place named by the location, or every place within the radius of it
+    private List<String> placeIds(SearchRequestDTO request) {
+        Optional<Gazetteer.Place> place = gazetteer.resolve(request.getLocation());
+        if (place.isEmpty()) {
+            return List.of();
+        }
+        if (request.getRadiusKm() == null || request.getRadiusKm() <= 0) {
+            return List.of(place.get().id());
+        }
+        return gazetteer.within(place.get(), request.getRadiusKm()).stream()
+            .map(Gazetteer.Place::id)
+            .collect(Collectors.toList());
+    }
+}
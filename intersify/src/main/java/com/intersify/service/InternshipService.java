@@ -1,6 +1,7 @@
 package com.intersify.service;
 
 
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.entity.Internship;
 
 import java.util.List;
@@ -13,6 +14,8 @@ public interface InternshipService {
     
     List<Internship> getPublicInternships();
 
+    CursorPageDTO<Internship> getPublicInternshipsPage(String cursor, int size, boolean includeTotal);
+
     List<Internship> getInternshipsByCompany(Long companyId);
 
     Internship getInternshipById(Long internshipId);
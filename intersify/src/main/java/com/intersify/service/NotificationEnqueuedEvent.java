@@ -0,0 +1,5 @@
+package com.intersify.service;
+
+// Published when notifications were written to the outbox; delivery starts once the transaction commits
+public record NotificationEnqueuedEvent(int count) {
+}
@@ -0,0 +1,83 @@
+package com.intersify.service;
+
+import com.intersify.entity.Application;
+import com.intersify.entity.OutboxMessage;
+import com.intersify.enums.ApplicationStatus;
+import com.intersify.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write side of the notification outbox. Status changes enqueue their notifications in their own
+ * transaction, so they are sent exactly when the change commits and the request never waits on SMTP;
+ * NotificationOutboxDispatcher delivers them afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private static final String INSERT = "INSERT INTO notification_outbox (application_id, student_id, company_id, "
+            + "student_email, student_name, internship_title, company_name, application_status, notes, status, "
+            + "attempts, created_at, next_attempt_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private final OutboxMessageRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueStatusUpdate(Application application, ApplicationStatus status, String notes) {
+        outboxRepository.save(statusUpdate(application, status, notes));
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(1));
+    }
+
+    // One JDBC batch instead of an identity insert per row
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueStatusUpdates(List<Application> applications, ApplicationStatus status, String notes) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        List<OutboxMessage> messages = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            messages.add(statusUpdate(application, status, notes));
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, messages, messages.size(), (statement, message) -> {
+            statement.setLong(1, message.getApplicationId());
+            statement.setLong(2, message.getStudentId());
+            statement.setLong(3, message.getCompanyId());
+            statement.setString(4, message.getStudentEmail());
+            statement.setString(5, message.getStudentName());
+            statement.setString(6, message.getInternshipTitle());
+            statement.setString(7, message.getCompanyName());
+            statement.setString(8, message.getApplicationStatus().name());
+            statement.setString(9, message.getNotes());
+            statement.setTimestamp(10, now);
+            statement.setTimestamp(11, now);
+        });
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(messages.size()));
+    }
+
+    // Copies what the email and the pushes need, so delivery never loads the application again
+    public static OutboxMessage statusUpdate(Application application, ApplicationStatus status, String notes) {
+        OutboxMessage message = new OutboxMessage();
+        message.setApplicationId(application.getApplicationId());
+        message.setStudentId(application.getStudent().getStudentId());
+        message.setCompanyId(application.getInternship().getCompany().getCompanyId());
+        message.setStudentEmail(application.getStudent().getUser().getEmail());
+        message.setStudentName(application.getStudent().getUser().getName());
+        message.setInternshipTitle(application.getInternship().getTitle());
+        message.setCompanyName(application.getInternship().getCompany().getCompanyName());
+        message.setApplicationStatus(status);
+        message.setNotes(notes);
+        return message;
+    }
+}
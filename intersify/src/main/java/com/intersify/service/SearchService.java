@@ -1,261 +1,494 @@
 package com.intersify.service;
 
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.intersify.dto.FacetCountDTO;
+import com.intersify.dto.InternshipSearchHitDTO;
 import com.intersify.dto.SearchRequestDTO;
 import com.intersify.dto.SearchResultDTO;
+import com.intersify.dto.SearchStatsDTO;
+import com.intersify.entity.CompanyProfile;
 import com.intersify.entity.Internship;
 import com.intersify.entity.StudentProfile;
+import com.intersify.enums.SearchSortField;
+import com.intersify.recommendation.RecommendationCache;
+import com.intersify.recommendation.RecommendationEngine;
+import com.intersify.recommendation.RecommendationStore;
+import com.intersify.recommendation.SkillDictionary;
 import com.intersify.repository.InternshipRepository;
 import com.intersify.repository.StudentProfileRepository;
+import com.intersify.search.ApproximateCounts;
+import com.intersify.search.Gazetteer;
+import com.intersify.search.IndexSearchResult;
+import com.intersify.search.InternshipSearchIndex;
+import com.intersify.search.PopularityCounters;
+import com.intersify.search.SearchCursor;
+import com.intersify.search.SearchOrder;
+import com.intersify.search.SearchResultCache;
+import com.intersify.search.SearchTimings;
+import com.intersify.search.SingleFlight;
+import com.intersify.search.StipendParser;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class SearchService {
 
+    private static final long STATS_TTL_MILLIS = 30_000;
+
     private final InternshipRepository internshipRepository;
     private final StudentProfileRepository studentRepository;
+    private final InternshipSearchIndex searchIndex;
+    private final PopularityCounters popularityCounters;
+    private final ApproximateCounts approximateCounts;
+    private final MeterRegistry meterRegistry;
+    private final RecommendationEngine recommendationEngine;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationStore recommendationStore;
+    private final SkillDictionary skillDictionary;
+    private final SkillNormalizer skillNormalizer;
+    private final SearchResultCache resultCache;
+    private final Gazetteer gazetteer;
+    private final InternshipFilters internshipFilters;
+    private final SingleFlight<SearchResultCache.Key, SearchResultDTO> searchFlights;
+    private final Executor taskExecutor;
+
+    private volatile StatsSnapshot stats;
+    private final AtomicBoolean statsRefreshing = new AtomicBoolean();
+    private final Object firstStatsLock = new Object();
 
-    public SearchService(InternshipRepository internshipRepository, StudentProfileRepository studentRepository) {
+    public SearchService(InternshipRepository internshipRepository, StudentProfileRepository studentRepository,
+            InternshipSearchIndex searchIndex, PopularityCounters popularityCounters,
+            ApproximateCounts approximateCounts, MeterRegistry meterRegistry,
+            RecommendationEngine recommendationEngine, RecommendationCache recommendationCache,
+            RecommendationStore recommendationStore, SkillDictionary skillDictionary,
+            SkillNormalizer skillNormalizer, SearchResultCache resultCache, Gazetteer gazetteer,
+            InternshipFilters internshipFilters, @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
         this.internshipRepository = internshipRepository;
         this.studentRepository = studentRepository;
+        this.searchIndex = searchIndex;
+        this.popularityCounters = popularityCounters;
+        this.approximateCounts = approximateCounts;
+        this.meterRegistry = meterRegistry;
+        this.recommendationEngine = recommendationEngine;
+        this.recommendationCache = recommendationCache;
+        this.recommendationStore = recommendationStore;
+        this.skillDictionary = skillDictionary;
+        this.skillNormalizer = skillNormalizer;
+        this.resultCache = resultCache;
+        this.gazetteer = gazetteer;
+        this.internshipFilters = internshipFilters;
+        this.searchFlights = new SingleFlight<>(meterRegistry, "intersify.search.flights");
+        this.taskExecutor = taskExecutor;
     }
 
     public SearchResultDTO searchInternships(SearchRequestDTO request) {
+        SearchTimings timings = new SearchTimings();
+        request.setSkills(skillNormalizer.canonicalize(request.getSkills()));
+        request.setLocation(gazetteer.canonicalize(request.getLocation()));
+        request.setStipendCurrency(StipendParser.requestedCurrency(request.getStipendCurrency()));
+        SearchOrder order = SearchOrder.of(request);
+        boolean indexed = searchIndex.isReady();
+        // Index answers are cached against the index version they were computed from
+        SearchResultCache.Key key = SearchResultCache.keyOf(request, order, indexed ? searchIndex.version() : -1);
+        timings.lap("plan");
+
+        if (indexed) {
+            SearchResultDTO cached = resultCache.get(key);
+            if (cached != null) {
+                timings.lap("cache");
+                return copy(cached, timings, "cache");
+            }
+        }
+
+        // Identical searches arriving together share one computation
+        SingleFlight.Result<SearchResultDTO> flight = searchFlights.execute(key,
+            () -> search(request, order, indexed, key, timings));
+        if (!flight.shared()) {
+            return flight.value();
+        }
+        timings.lap("coalesced");
+        return copy(flight.value(), timings, "coalesced");
+    }
+
+    private SearchResultDTO search(SearchRequestDTO request, SearchOrder order, boolean indexed,
+            SearchResultCache.Key key, SearchTimings timings) {
+        SearchResultDTO.SearchResultDTOBuilder builder;
+        if (request.getCursor() != null) {
+            builder = scroll(request, order, indexed, timings);
+        } else if (!indexed) {
+            // Until the index has been built at startup, fall back to the database
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sortOf(order));
+            Page<Internship> page = searchWithSpecification(request, pageable, timings);
+            builder = present(request, page.getContent(), toResult(page));
+        } else {
+            builder = searchIndexed(request, order, timings);
+        }
+
+        SearchResultDTO result = builder.build();
+        timings.lap("mapping");
+        result.setExecutionTime(timings.totalMillis());
+        result.setStageTimings(timings.micros());
+        timings.publish(meterRegistry, indexed ? "index" : "database");
+        if (indexed) {
+            resultCache.put(key, result);
+        }
+        return result;
+    }
+
+    // A result computed for another request, with this request's own timings
+    private SearchResultDTO copy(SearchResultDTO result, SearchTimings timings, String path) {
+        SearchResultDTO copy = result.toBuilder()
+            .executionTime(timings.totalMillis())
+            .stageTimings(timings.micros())
+            .build();
+        timings.publish(meterRegistry, path);
+        return copy;
+    }
+
+    // Keywords, filters and ordering are resolved in memory; the database only hydrates the requested page
+    private SearchResultDTO.SearchResultDTOBuilder searchIndexed(SearchRequestDTO request, SearchOrder order,
+            SearchTimings timings) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        
-        Specification<Internship> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // Text search
-            if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-                String keyword = "%" + request.getKeyword().toLowerCase() + "%";
-                Predicate titlePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("title")), keyword
-                );
-                Predicate companyPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("company").get("companyName")), keyword
-                );
-                Predicate locationPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("location")), keyword
-                );
-                Predicate skillsPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("skillsRequired")), keyword
-                );
-                
-                predicates.add(criteriaBuilder.or(
-                    titlePredicate, companyPredicate, locationPredicate, skillsPredicate
-                ));
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        IndexSearchResult matches = searchIndex.search(request, order, null, limit, timings);
+        List<Long> matchingIds = matches.ids();
+
+        int from = (int) Math.min(pageable.getOffset(), matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, matchingIds.size());
+        SearchResultDTO.SearchResultDTOBuilder result = hydrate(request, pageIds,
+            toResult(new PageImpl<>(pageIds, pageable, matches.total())));
+        timings.lap("hydrate");
+
+        Map<String, List<FacetCountDTO>> facets = matches.facets();
+        return result
+            .facets(facets)
+            .popularSkills(facetValues(facets.get(IndexSearchResult.SKILLS_FACET)))
+            .popularLocations(facetValues(facets.get(IndexSearchResult.LOCATION_FACET)))
+            .popularCompanies(facetValues(facets.get(IndexSearchResult.COMPANY_FACET)));
+    }
+
+    // Database order matching each sort; deadline and stipend are served by their (value, internship_id) indexes
+    private static Sort sortOf(SearchOrder order) {
+        Sort.Direction direction = order.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return switch (order.field()) {
+            case DEADLINE -> Sort.by(direction, "deadline", "internshipId");
+            case STIPEND -> Sort.by(direction, "stipendAmount", "internshipId");
+            case RECENCY -> Sort.by(direction, "internshipId");
+            // Relevance scores only exist in the index; the database shows the newest first
+            case RELEVANCE -> Sort.by(Sort.Direction.DESC, "internshipId");
+        };
+    }
+
+    private SearchResultDTO.SearchResultDTOBuilder toResult(Page<?> page) {
+        return SearchResultDTO.builder()
+            .totalElements(page.getTotalElements())
+            .totalPages(page.getTotalPages())
+            .currentPage(page.getNumber())
+            .hasNext(page.hasNext())
+            .hasPrevious(page.hasPrevious());
+    }
+
+    private static List<String> facetValues(List<FacetCountDTO> counts) {
+        return counts.stream().map(FacetCountDTO::getValue).collect(Collectors.toList());
+    }
+
+    // Full entities as before, unless the caller opts into lean hits, which come from a single projection query
+    private SearchResultDTO.SearchResultDTOBuilder hydrate(SearchRequestDTO request, List<Long> ids,
+            SearchResultDTO.SearchResultDTOBuilder result) {
+        if (ids.isEmpty()) {
+            return result.hits(List.of()).internships(hitsOnly(request) ? null : List.of());
+        }
+        if (!hitsOnly(request)) {
+            return present(request, inOrder(ids, internshipRepository.findByInternshipIdIn(ids),
+                Internship::getInternshipId), result);
+        }
+        return result.hits(inOrder(ids, internshipRepository.findSearchHitsByIdIn(ids),
+            InternshipSearchHitDTO::getInternshipId));
+    }
+
+    // Rows the database path already loaded as entities
+    private static SearchResultDTO.SearchResultDTOBuilder present(SearchRequestDTO request, List<Internship> rows,
+            SearchResultDTO.SearchResultDTOBuilder result) {
+        List<InternshipSearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (Internship internship : rows) {
+            hits.add(toHit(internship));
+        }
+        return result.hits(hits).internships(hitsOnly(request) ? null : rows);
+    }
+
+    private static boolean hitsOnly(SearchRequestDTO request) {
+        return Boolean.TRUE.equals(request.getHitsOnly());
+    }
+
+    private static InternshipSearchHitDTO toHit(Internship internship) {
+        CompanyProfile company = internship.getCompany();
+        return new InternshipSearchHitDTO(internship.getInternshipId(), internship.getTitle(),
+            company != null ? company.getCompanyName() : null, company != null ? company.getLogo() : null,
+            internship.getLocation(), internship.getStipend(), internship.getDeadline(),
+            internship.getSkillsRequired());
+    }
+
+    // Keep the index order; ids deleted since the lookup are simply skipped
+    private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
             }
-            
-            // Location filter
-            if (request.getLocation() != null && !request.getLocation().isEmpty()) {
-                Predicate locationPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("location")), 
-                    "%" + request.getLocation().toLowerCase() + "%"
-                );
-                predicates.add(locationPredicate);
+        }
+        return ordered;
+    }
+
+    private Page<Internship> searchWithSpecification(SearchRequestDTO request, Pageable pageable, SearchTimings timings) {
+        Page<Internship> page = internshipRepository.findAll(timed(internshipFilters.of(request), timings), pageable);
+        // The count query is skipped when the first page already holds every match
+        timings.lap(timings.has("query") ? "count" : "query");
+        return page;
+    }
+
+    // Spring Data builds the content query and then, unless it can tell the total from the page, a count
+    // query from the same specification; the count query's result type tells the two apart. Predicate
+    // building is timed on its own as well, nested within both.
+    private static Specification<Internship> timed(Specification<Internship> spec, SearchTimings timings) {
+        return (root, query, criteriaBuilder) -> {
+            if (Long.class.equals(query.getResultType())) {
+                timings.lap("query");
             }
-            
-            // Skills filter
-            if (request.getSkills() != null && !request.getSkills().isEmpty()) {
-                String[] skills = request.getSkills().split(",");
-                for (String skill : skills) {
-                    skill = skill.trim();
-                    if (!skill.isEmpty()) {
-                        Predicate skillPredicate = criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("skillsRequired")), 
-                            "%" + skill.toLowerCase() + "%"
-                        );
-                        predicates.add(skillPredicate);
-                    }
-                }
+            long start = System.nanoTime();
+            Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+            timings.add("predicates", System.nanoTime() - start);
+            return predicate;
+        };
+    }
+
+    // Cursor mode: a slice in the requested order that seeks past the last row served instead of
+    // skipping an OFFSET, and never runs a count query unless an approximate total is requested
+    private SearchResultDTO.SearchResultDTOBuilder scroll(SearchRequestDTO request, SearchOrder order, boolean indexed,
+            SearchTimings timings) {
+        String scope = SearchCursor.scopeOf(order, indexed);
+        SearchCursor after = SearchCursor.decode(request.getCursor(), scope);
+        int size = Math.max(1, request.getSize());
+        boolean includeTotal = Boolean.TRUE.equals(request.getIncludeTotal());
+
+        SearchResultDTO.SearchResultDTOBuilder result = SearchResultDTO.builder();
+        String nextCursor = null;
+        boolean hasNext;
+        Long total = null;
+        Map<String, List<FacetCountDTO>> facets = null;
+        if (indexed) {
+            IndexSearchResult matches = searchIndex.search(request, order, after, size + 1, timings);
+            hasNext = matches.ids().size() > size;
+            List<Long> ids = hasNext ? matches.ids().subList(0, size) : matches.ids();
+            if (hasNext) {
+                nextCursor = new SearchCursor(scope, matches.keys().get(size - 1), ids.get(size - 1)).encode();
             }
-            
-            // Stipend range
-            if (request.getMinStipend() != null) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
-                    root.get("stipend"), request.getMinStipend()
-                ));
+            hydrate(request, ids, result);
+            timings.lap("hydrate");
+            facets = matches.facets();
+            if (includeTotal) {
+                total = matches.total();
             }
-            
-            if (request.getMaxStipend() != null) {
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(
-                    root.get("stipend"), request.getMaxStipend()
-                ));
+        } else {
+            List<Internship> rows = internshipRepository.findBy(timed(internshipFilters.of(request), timings).and(after(order, after)),
+                    query -> query.sortBy(sortOf(order)).limit(size + 1).all());
+            timings.lap("query");
+            hasNext = rows.size() > size;
+            if (hasNext) {
+                rows = rows.subList(0, size);
+                Internship last = rows.get(size - 1);
+                nextCursor = new SearchCursor(scope, keyOf(order, last), last.getInternshipId()).encode();
             }
-            
-            // Duration filter
-            if (request.getDuration() != null && !request.getDuration().isEmpty()) {
-                Predicate durationPredicate = criteriaBuilder.equal(
-                    root.get("duration"), request.getDuration()
-                );
-                predicates.add(durationPredicate);
+            present(request, rows, result);
+            if (includeTotal) {
+                total = approximateCounts.get(filterKey(request), () -> internshipRepository.count(internshipFilters.of(request)));
+                timings.lap("count");
             }
-            
-            // Deadline filter (only active internships)
-            if (request.getActiveOnly() != null && request.getActiveOnly()) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(
-                    root.get("deadline"), java.time.LocalDate.now()
-                ));
+        }
+
+        result.hasNext(hasNext)
+            .hasPrevious(after != null)
+            .nextCursor(nextCursor)
+            .approximateTotal(total);
+        if (facets != null) {
+            result.facets(facets)
+                .popularSkills(facetValues(facets.get(IndexSearchResult.SKILLS_FACET)))
+                .popularLocations(facetValues(facets.get(IndexSearchResult.LOCATION_FACET)))
+                .popularCompanies(facetValues(facets.get(IndexSearchResult.COMPANY_FACET)));
+        }
+        return result;
+    }
+
+    private static Long keyOf(SearchOrder order, Internship internship) {
+        return switch (order.field()) {
+            case DEADLINE -> internship.getDeadline() != null ? internship.getDeadline().toEpochDay() : null;
+            case STIPEND -> internship.getStipendAmount() != null ? internship.getStipendAmount().longValue() : null;
+            case RECENCY, RELEVANCE -> null;
+        };
+    }
+
+    // Rows strictly after the cursor in the order of sortOf(order)
+    private static Specification<Internship> after(SearchOrder order, SearchCursor after) {
+        return (root, query, criteriaBuilder) -> {
+            if (after == null) {
+                return criteriaBuilder.conjunction();
             }
-            
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+            boolean descending = order.descending() || order.field() == SearchSortField.RELEVANCE;
+            Path<Long> internshipId = root.get("internshipId");
+            Predicate idAfter = descending
+                ? criteriaBuilder.lessThan(internshipId, after.internshipId())
+                : criteriaBuilder.greaterThan(internshipId, after.internshipId());
+            return switch (order.field()) {
+                case DEADLINE -> seek(criteriaBuilder, root.<LocalDate>get("deadline"),
+                    after.key() != null ? LocalDate.ofEpochDay(after.key()) : null, idAfter, descending);
+                case STIPEND -> seek(criteriaBuilder, root.<Integer>get("stipendAmount"),
+                    after.key() != null ? after.key().intValue() : null, idAfter, descending);
+                case RECENCY, RELEVANCE -> idAfter;
+            };
         };
-        
-        Page<Internship> page = internshipRepository.findAll(spec, pageable);
-        
-        return SearchResultDTO.builder()
-            .internships(page.getContent())
-            .totalElements(page.getTotalElements())
-            .totalPages(page.getTotalPages())
-            .currentPage(page.getNumber())
-            .hasNext(page.hasNext())
-            .hasPrevious(page.hasPrevious())
-            .build();
     }
 
+    // MySQL sorts nulls first ascending and last descending
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder criteriaBuilder, Path<Y> column,
+            Y key, Predicate idAfter, boolean descending) {
+        if (key == null) {
+            Predicate withinNulls = criteriaBuilder.and(criteriaBuilder.isNull(column), idAfter);
+            return descending ? withinNulls : criteriaBuilder.or(withinNulls, criteriaBuilder.isNotNull(column));
+        }
+        Predicate beyond = descending ? criteriaBuilder.lessThan(column, key) : criteriaBuilder.greaterThan(column, key);
+        Predicate tie = criteriaBuilder.and(criteriaBuilder.equal(column, key), idAfter);
+        return descending
+            ? criteriaBuilder.or(beyond, tie, criteriaBuilder.isNull(column))
+            : criteriaBuilder.or(beyond, tie);
+    }
+
+    // Every field that reaches internshipFilters.of(request); a missing one would share counts between different filters
+    private static String filterKey(SearchRequestDTO request) {
+        return String.join("|", String.valueOf(request.getKeyword()), String.valueOf(request.getMatchMode()),
+            String.valueOf(request.getLocation()), String.valueOf(request.getRadiusKm()),
+            String.valueOf(request.getSkills()),
+            String.valueOf(request.getMinStipend()), String.valueOf(request.getMaxStipend()),
+            String.valueOf(request.getStipendCurrency()), String.valueOf(request.getDuration()), String.valueOf(request.getActiveOnly()),
+            String.valueOf(request.getCompanyName()), String.valueOf(request.getIndustry()));
+    }
+
+    // Top skill-overlap matches from the recommendation engine's precomputed vectors, cached per student
     public List<Internship> getRecommendedInternships(Long studentId) {
+        if (!recommendationEngine.isReady()) {
+            return recommendFromDatabase(studentId);
+        }
+        // Students scored by the nightly job read their stored list unless a later posting change could alter it;
+        // everyone else is computed on demand
+        return recommendationCache.get(studentId,
+            id -> recommendationStore.find(id)
+                .orElseGet(() -> recommendationEngine.recommend(id, RecommendationEngine.TOP_N)),
+            ids -> ids.isEmpty() ? List.of()
+                : inOrder(ids, internshipRepository.findByInternshipIdIn(ids), Internship::getInternshipId));
+    }
+
+    // Used only until the search index, and with it the engine, has been built at startup
+    private List<Internship> recommendFromDatabase(Long studentId) {
         StudentProfile student = studentRepository.findById(studentId)
             .orElseThrow(() -> new RuntimeException("Student not found"));
-        
-        // Get student's skills
-        String studentSkills = student.getSkills() != null ? student.getSkills() : "";
-        
-        // Create recommendation based on skills match
-        Specification<Internship> recommendationSpec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // Only active internships
-            predicates.add(criteriaBuilder.greaterThanOrEqualTo(
-                root.get("deadline"), java.time.LocalDate.now()
-            ));
-            
-            // Skills-based recommendation
-            if (!studentSkills.isEmpty()) {
-                String[] skills = studentSkills.toLowerCase().split(",");
-                for (String skill : skills) {
-                    skill = skill.trim();
-                    if (!skill.isEmpty()) {
-                        Predicate skillPredicate = criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("skillsRequired")), 
-                            "%" + skill + "%"
-                        );
-                        predicates.add(skillPredicate);
-                    }
-                }
-            }
-            
-            // Location-based preference (removed as StudentProfile doesn't have location field)
-            
-            return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
-        };
-        
-        List<Internship> recommendations = internshipRepository.findAll(recommendationSpec);
-        
-        // Sort by relevance (number of matching skills)
-        return recommendations.stream()
-            .sorted((i1, i2) -> {
-                int match1 = countSkillMatches(i1.getSkillsRequired(), studentSkills);
-                int match2 = countSkillMatches(i2.getSkillsRequired(), studentSkills);
-                return Integer.compare(match2, match1); // Descending order
-            })
-            .limit(10)
-            .collect(Collectors.toList());
-    }
+        int[] studentSkills = skillDictionary.vectorOf(student.getSkills());
 
-    private int countSkillMatches(String internshipSkills, String studentSkills) {
-        if (internshipSkills == null || studentSkills == null) return 0;
-        
-        String[] studentSkillArray = studentSkills.toLowerCase().split(",");
-        String[] internshipSkillArray = internshipSkills.toLowerCase().split(",");
-        
-        int matches = 0;
-        for (String studentSkill : studentSkillArray) {
-            studentSkill = studentSkill.trim();
-            for (String internshipSkill : internshipSkillArray) {
-                internshipSkill = internshipSkill.trim();
-                if (studentSkill.equals(internshipSkill)) {
-                    matches++;
-                }
-            }
+        Specification<Internship> active = (root, query, criteriaBuilder) ->
+            criteriaBuilder.greaterThanOrEqualTo(root.get("deadline"), LocalDate.now());
+        Map<Internship, Integer> scores = new HashMap<>();
+        for (Internship internship : internshipRepository.findAll(active)) {
+            scores.put(internship, SkillDictionary.overlap(studentSkills,
+                skillDictionary.vectorOf(internship.getSkillsRequired())));
         }
-        return matches;
+        return scores.keySet().stream()
+            .sorted(Comparator.comparing((Internship internship) -> scores.get(internship)).reversed()
+                .thenComparing(Internship::getInternshipId, Comparator.reverseOrder()))
+            .limit(RecommendationEngine.TOP_N)
+            .collect(Collectors.toList());
     }
 
+    // Popularity is maintained incrementally from index updates; these are constant-time reads
     public List<String> getPopularSkills() {
-        return internshipRepository.findAll().stream()
-            .map(Internship::getSkillsRequired)
-            .filter(skills -> skills != null && !skills.isEmpty())
-            .flatMap(skills -> List.of(skills.split(",")).stream())
-            .map(String::trim)
-            .map(String::toLowerCase)
-            .collect(Collectors.groupingBy(skill -> skill, Collectors.counting()))
-            .entrySet().stream()
-            .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
-            .limit(20)
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        return popularityCounters.popularSkills();
     }
 
     public List<String> getPopularLocations() {
-        return internshipRepository.findAll().stream()
-            .map(Internship::getLocation)
-            .filter(location -> location != null && !location.isEmpty())
-            .map(String::toLowerCase)
-            .collect(Collectors.groupingBy(location -> location, Collectors.counting()))
-            .entrySet().stream()
-            .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
-            .limit(15)
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        return popularityCounters.popularLocations();
     }
 
     public List<String> getPopularCompanies() {
-        return internshipRepository.findAll().stream()
-            .map(internship -> internship.getCompany().getCompanyName())
-            .filter(company -> company != null && !company.isEmpty())
-            .map(String::toLowerCase)
-            .collect(Collectors.groupingBy(company -> company, Collectors.counting()))
-            .entrySet().stream()
-            .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
-            .limit(20)
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
-    }
-
-    public long getTotalInternships() {
-        return internshipRepository.count();
+        return popularityCounters.popularCompanies();
     }
 
-    public long getActiveInternships() {
-        return internshipRepository.findAll().stream()
-            .filter(internship -> internship.getDeadline() != null 
-                && internship.getDeadline().isAfter(java.time.LocalDate.now()))
-            .count();
+    // Served from memory; once the snapshot is older than STATS_TTL_MILLIS the stale figures are still
+    // returned while a single background refresh runs the aggregate query on the application task executor.
+    // Before the first snapshot exists, concurrent callers wait for one query instead of each running it.
+    public SearchStatsDTO getSearchStats() {
+        StatsSnapshot snapshot = stats;
+        if (snapshot == null) {
+            synchronized (firstStatsLock) {
+                snapshot = stats;
+                if (snapshot == null) {
+                    snapshot = refreshStats();
+                }
+            }
+            return snapshot.stats();
+        }
+        if (System.currentTimeMillis() - snapshot.computedAt() > STATS_TTL_MILLIS
+                && statsRefreshing.compareAndSet(false, true)) {
+            try {
+                CompletableFuture.runAsync(this::refreshStats, taskExecutor)
+                    .whenComplete((refreshed, e) -> {
+                        statsRefreshing.set(false);
+                        if (e != null) {
+                            log.error("Error refreshing search stats", e);
+                        }
+                    });
+            } catch (RuntimeException e) {
+                // A rejected task must not leave the flag set, or the stats would never refresh again
+                statsRefreshing.set(false);
+                log.error("Error scheduling a search stats refresh", e);
+            }
+        }
+        return snapshot.stats();
     }
 
-    public long getTotalCompanies() {
-        return internshipRepository.findAll().stream()
-            .map(internship -> internship.getCompany().getCompanyId())
-            .distinct()
-            .count();
+    private StatsSnapshot refreshStats() {
+        StatsSnapshot snapshot = new StatsSnapshot(internshipRepository.findSearchStats(LocalDate.now()),
+            System.currentTimeMillis());
+        stats = snapshot;
+        return snapshot;
     }
 
-    public long getTotalApplications() {
-        // This would need ApplicationRepository to be properly implemented
-        // For now, return 0 as placeholder
-        return 0;
+    private record StatsSnapshot(SearchStatsDTO stats, long computedAt) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.intersify.service;
+
+import com.intersify.entity.Internship;
+import com.intersify.entity.Skill;
+import com.intersify.entity.SkillAlias;
+import com.intersify.entity.StudentProfile;
+import com.intersify.repository.SkillAliasRepository;
+import com.intersify.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Maps free-text skill lists onto the canonical skill dictionary. Aliases are held in memory, so
+ * canonicalising a name never touches the database; resolving a list to Skill rows costs one lookup,
+ * plus one batched insert and a second lookup when the list has skills seen for the first time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SkillNormalizer {
+
+    private static final String ALIASES = "skills/aliases.csv";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // A concurrent first use of the same skill may have inserted it already; keep that row
+    private static final String INSERT_SKILL = "INSERT INTO skill (name, label) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE name = name";
+
+    private final SkillRepository skillRepository;
+    private final SkillAliasRepository aliasRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    // alias -> canonical skill name
+    private volatile Map<String, String> aliases = Map.of();
+
+    // Ahead of the index rebuild and the backfill, so both see the aliases
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void loadAliases() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> seedAliases());
+        } catch (Exception e) {
+            log.error("Error seeding skill aliases", e);
+        }
+        Map<String, String> loaded = new HashMap<>();
+        for (SkillAlias alias : aliasRepository.findAllBy()) {
+            loaded.put(alias.getAlias(), alias.getSkill().getName());
+        }
+        aliases = loaded;
+        log.info("Loaded {} skill aliases", loaded.size());
+    }
+
+    private void seedAliases() {
+        ClassPathResource resource = new ClassPathResource(ALIASES);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comma = line.indexOf(',');
+                if (line.isBlank() || line.startsWith("#") || comma < 0) {
+                    continue;
+                }
+                String alias = key(line.substring(0, comma));
+                String label = label(line.substring(comma + 1));
+                Skill skill = skillRepository.findByName(key(label))
+                        .orElseGet(() -> skillRepository.save(new Skill(null, key(label), label)));
+                if (!alias.equals(skill.getName()) && !aliasRepository.existsById(alias)) {
+                    aliasRepository.save(new SkillAlias(alias, skill));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + ALIASES, e);
+        }
+    }
+
+    // Lower-case key of one skill with its alias resolved, e.g. " JS " -> "javascript"
+    public String canonicalName(String skill) {
+        String key = key(skill);
+        return aliases.getOrDefault(key, key);
+    }
+
+    // Canonical names of a comma-separated list, in order and without duplicates
+    public Set<String> canonicalNames(String skills) {
+        Set<String> names = new LinkedHashSet<>();
+        if (skills != null) {
+            for (String skill : skills.split(",")) {
+                String name = canonicalName(skill);
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    // Request-side form of a skill list, comparable with stored lists
+    public String canonicalize(String skills) {
+        return skills == null ? null : String.join(",", canonicalNames(skills));
+    }
+
+    // Existing skills only; used by filters, which never create dictionary entries
+    public List<Skill> find(Set<String> names) {
+        return names.isEmpty() ? List.of() : skillRepository.findByNameIn(names);
+    }
+
+    public void apply(Internship internship) {
+        List<Skill> skills = resolve(internship.getSkillsRequired());
+        internship.setSkillSet(new LinkedHashSet<>(skills));
+        internship.setSkillsRequired(format(skills, internship.getSkillsRequired()));
+    }
+
+    public void apply(StudentProfile student) {
+        List<Skill> skills = resolve(student.getSkills());
+        student.setSkillSet(new LinkedHashSet<>(skills));
+        student.setSkills(format(skills, student.getSkills()));
+    }
+
+    // Skill rows for the list. Unseen skills are inserted and committed in a transaction of their own, so two
+    // requests introducing the same skill both succeed instead of one failing on the unique name.
+    private List<Skill> resolve(String skills) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        if (skills != null) {
+            for (String skill : skills.split(",")) {
+                String name = canonicalName(skill);
+                if (!name.isEmpty()) {
+                    labels.putIfAbsent(name, label(skill));
+                }
+            }
+        }
+        if (labels.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Skill> existing = byName(skillRepository.findByNameIn(labels.keySet()));
+        // Sorted, so concurrent inserts take the unique-key locks in the same order
+        Map<String, String> missing = new TreeMap<>(labels);
+        missing.keySet().removeAll(existing.keySet());
+        if (!missing.isEmpty()) {
+            insert(missing);
+            // A locking read, which sees rows committed after this transaction's snapshot
+            existing.putAll(byName(skillRepository.findLatestByNameIn(missing.keySet())));
+        }
+        List<Skill> resolved = new ArrayList<>(labels.size());
+        for (String name : labels.keySet()) {
+            resolved.add(existing.get(name));
+        }
+        return resolved;
+    }
+
+    private void insert(Map<String, String> labels) {
+        List<Map.Entry<String, String>> rows = new ArrayList<>(labels.entrySet());
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SKILL, rows, rows.size(),
+                (statement, row) -> {
+                    statement.setString(1, row.getKey());
+                    statement.setString(2, row.getValue());
+                }));
+    }
+
+    private static Map<String, Skill> byName(List<Skill> skills) {
+        return skills.stream().collect(Collectors.toMap(Skill::getName, skill -> skill));
+    }
+
+    // Canonical labels, so every consumer of the text column sees one spelling per skill
+    private static String format(List<Skill> skills, String original) {
+        if (skills.isEmpty()) {
+            return original;
+        }
+        return skills.stream().map(Skill::getLabel).collect(Collectors.joining(", "));
+    }
+
+    private static String key(String skill) {
+        return label(skill).toLowerCase(Locale.ROOT);
+    }
+
+    private static String label(String skill) {
+        return skill == null ? "" : WHITESPACE.matcher(skill.trim()).replaceAll(" ");
+    }
+}
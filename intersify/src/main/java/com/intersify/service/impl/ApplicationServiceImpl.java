@@ -1,19 +1,36 @@
 package com.intersify.service.impl;
 
+import com.intersify.dto.ApplicantSummaryDTO;
 import com.intersify.dto.ApplicationDetailsDTO;
 import com.intersify.dto.ApplicationTrackingDTO;
+import com.intersify.dto.BulkStatusItemDTO;
+import com.intersify.dto.BulkStatusUpdateResultDTO;
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.entity.*;
 import com.intersify.enums.ApplicationStatus;
+import com.intersify.enums.BulkUpdateOutcome;
+import com.intersify.exception.InvalidRequestException;
 import com.intersify.repository.*;
+import com.intersify.service.ApplicantCursor;
 import com.intersify.service.ApplicationService;
-import com.intersify.service.EmailNotificationService;
+import com.intersify.service.NotificationOutbox;
 import com.intersify.service.WebSocketNotificationService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,13 +38,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService {
 
+    private static final int MAX_BULK_UPDATE = 1000;
+    private static final int MAX_APPLICANT_PAGE_SIZE = 100;
+    private static final String UPDATE_STATUS =
+            "UPDATE application SET status = ? WHERE application_id = ? AND status = ?";
+    private static final String INSERT_STAGE = "INSERT INTO application_stage "
+            + "(application_id, status, notes, stage_date, updated_by) VALUES (?, ?, ?, ?, ?)";
+
     private final ApplicationRepository appRepo;
     private final StudentProfileRepository studentRepo;
     private final InternshipRepository internshipRepo;
     private final ApplicationStageRepository stageRepo;
     private final UserRepository userRepo;
-    private final EmailNotificationService emailService;
     private final WebSocketNotificationService websocketService;
+    private final NotificationOutbox notificationOutbox;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Application apply(Long studentId, Long internshipId, String resumeUrl) {
@@ -84,12 +109,7 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new RuntimeException("Unauthorized to update application status");
         }
 
-        ApplicationStatus newStatus;
-        try {
-            newStatus = ApplicationStatus.valueOf(status.trim().toUpperCase());
-        } catch (IllegalArgumentException e) {
-             throw new RuntimeException("Invalid status provided: " + status);
-        }
+        ApplicationStatus newStatus = parseStatus(status);
         
         ApplicationStatus oldStatus = app.getStatus();
         
@@ -104,37 +124,98 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> new RuntimeException("Company user not found"));
         createApplicationStage(updatedApp, newStatus, notes, companyUser);
         
-        // Send email notification to student
-        String studentEmail = app.getStudent().getUser().getEmail();
-        String studentName = app.getStudent().getUser().getName();
-        String internshipTitle = app.getInternship().getTitle();
-        String companyName = app.getInternship().getCompany().getCompanyName();
+        // Email and pushes go out from the outbox once this transaction commits
+        notificationOutbox.enqueueStatusUpdate(updatedApp, newStatus, notes);
         
+        return updatedApp;
+    }
+    
+    @Override
+    public BulkStatusUpdateResultDTO updateStatusBulk(List<Long> applicationIds, String status, String notes,
+            Long companyId) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            throw new RuntimeException("No applications to update");
+        }
+        if (applicationIds.size() > MAX_BULK_UPDATE) {
+            throw new RuntimeException("At most " + MAX_BULK_UPDATE + " applications can be updated at once");
+        }
+        ApplicationStatus newStatus = parseStatus(status);
+
+        // One query for the whole batch, then every check in memory
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        Map<Long, Application> found = new HashMap<>();
+        for (Application app : appRepo.findForStatusUpdate(ids)) {
+            found.put(app.getApplicationId(), app);
+        }
+
+        Map<Long, BulkStatusItemDTO> results = new LinkedHashMap<>();
+        List<Application> valid = new ArrayList<>();
+        for (Long id : ids) {
+            Application app = found.get(id);
+            if (app == null) {
+                results.put(id, new BulkStatusItemDTO(id, BulkUpdateOutcome.NOT_FOUND, null, "Application not found"));
+                continue;
+            }
+            String previousStatus = app.getStatus().toString();
+            if (!app.getInternship().getCompany().getCompanyId().equals(companyId)) {
+                results.put(id, new BulkStatusItemDTO(id, BulkUpdateOutcome.UNAUTHORIZED, previousStatus,
+                        "Unauthorized to update application status"));
+                continue;
+            }
+            try {
+                validateStatusTransition(app.getStatus(), newStatus);
+            } catch (RuntimeException e) {
+                results.put(id, new BulkStatusItemDTO(id, BulkUpdateOutcome.INVALID_TRANSITION, previousStatus,
+                        e.getMessage()));
+                continue;
+            }
+            valid.add(app);
+        }
+
+        // Guarded by the status that was validated, so a concurrent change is reported instead of overwritten
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS, valid, valid.size(), (statement, app) -> {
+            statement.setString(1, newStatus.name());
+            statement.setLong(2, app.getApplicationId());
+            statement.setString(3, app.getStatus().name());
+        });
+        List<Application> updated = new ArrayList<>();
+        for (int i = 0; i < valid.size(); i++) {
+            Application app = valid.get(i);
+            String previousStatus = app.getStatus().toString();
+            if (counts[0][i] == 0) {
+                results.put(app.getApplicationId(), new BulkStatusItemDTO(app.getApplicationId(),
+                        BulkUpdateOutcome.CONFLICT, previousStatus, "Application status changed meanwhile"));
+            } else {
+                updated.add(app);
+                results.put(app.getApplicationId(), new BulkStatusItemDTO(app.getApplicationId(),
+                        BulkUpdateOutcome.UPDATED, previousStatus, "Status updated to " + newStatus));
+            }
+        }
+
+        // The company's user shares its id, so the stage rows need no user lookup
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_STAGE, updated, updated.size(), (statement, app) -> {
+            statement.setLong(1, app.getApplicationId());
+            statement.setString(2, newStatus.name());
+            statement.setString(3, notes);
+            statement.setTimestamp(4, now);
+            statement.setLong(5, companyId);
+        });
+        notificationOutbox.enqueueStatusUpdates(updated, newStatus, notes);
+
+        return new BulkStatusUpdateResultDTO(updated.size(), results.size() - updated.size(),
+                new ArrayList<>(results.values()));
+    }
+
+    private ApplicationStatus parseStatus(String status) {
+        if (status == null) {
+            throw new RuntimeException("Status is required");
+        }
         try {
-            emailService.sendApplicationStatusUpdateEmail(
-                studentEmail, studentName, internshipTitle, companyName, newStatus, notes
-            );
-        } catch (Exception e) {
-            System.err.println("Failed to send email notification: " + e.getMessage());
-            // Consume error so transaction doesn't rollback
+            return ApplicationStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+             throw new RuntimeException("Invalid status provided: " + status);
         }
-        
-        // Send WebSocket notifications
-        websocketService.sendApplicationStatusUpdate(
-            app.getStudent().getStudentId(), 
-            "Your application status has been updated to " + newStatus, 
-            applicationId.toString(), 
-            newStatus.toString()
-        );
-        
-        websocketService.broadcastToCompany(
-            app.getInternship().getCompany().getCompanyId(),
-            "Application " + applicationId + " status updated to " + newStatus,
-            applicationId.toString(),
-            newStatus.toString()
-        );
-        
-        return updatedApp;
     }
     
     private void validateStatusTransition(ApplicationStatus oldStatus, ApplicationStatus newStatus) {
@@ -297,5 +378,38 @@ public class ApplicationServiceImpl implements ApplicationService {
         return appRepo.findByInternship(internship);
     }
 
+    // Newest first, seeking below the last application served instead of an OFFSET
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicantSummaryDTO> getApplicantsPage(Long internshipId, Long companyId,
+            ApplicationStatus status, String cursor, int size) {
+        if (!internshipRepo.existsByInternshipIdAndCompanyCompanyId(internshipId, companyId)) {
+            throw new RuntimeException("Unauthorized to view applicants of this internship");
+        }
+        ApplicantCursor after = ApplicantCursor.decode(cursor);
+        if (after != null && after.internshipId() != internshipId) {
+            throw new InvalidRequestException("Invalid pagination cursor");
+        }
+        long beforeId = after != null ? after.applicationId() : Long.MAX_VALUE;
+        int limit = Math.max(1, Math.min(size, MAX_APPLICANT_PAGE_SIZE));
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ApplicantSummaryDTO> rows = status != null
+                ? appRepo.findApplicantsPageByStatus(internshipId, status, beforeId, page)
+                : appRepo.findApplicantsPage(internshipId, beforeId, page);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        return CursorPageDTO.<ApplicantSummaryDTO>builder()
+                .items(rows)
+                .hasNext(hasNext)
+                .nextCursor(hasNext
+                        ? new ApplicantCursor(internshipId, rows.get(rows.size() - 1).getApplicationId()).encode()
+                        : null)
+                .build();
+    }
+
 }
 
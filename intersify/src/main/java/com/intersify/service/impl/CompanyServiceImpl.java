@@ -2,12 +2,18 @@ package com.intersify.service.impl;
 
 import com.intersify.entity.CompanyProfile;
 import com.intersify.enums.CompanyStatus;
+import com.intersify.entity.Internship;
 import com.intersify.repository.CompanyProfileRepository;
+import com.intersify.search.CompanyChangedEvent;
+import com.intersify.search.CompanyEntry;
+import com.intersify.search.InternshipChangedEvent;
 import com.intersify.service.CompanyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -16,6 +22,7 @@ import java.util.List;
 public class CompanyServiceImpl implements CompanyService {
 
     private final CompanyProfileRepository companyRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CompanyProfile getCompany(Long companyId) {
@@ -43,7 +50,19 @@ public class CompanyServiceImpl implements CompanyService {
         company.setPhone(updatedProfile.getPhone());
         company.setEmail(updatedProfile.getEmail());
 
-        return companyRepo.save(company);
+        CompanyProfile saved = companyRepo.save(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(
+                new CompanyEntry(saved.getCompanyId(), saved.getCompanyName(), saved.getIndustry())));
+
+        // The company name is part of every posting's search document
+        if (saved.getInternships() != null) {
+            for (Internship internship : saved.getInternships()) {
+                // Marks the posting as changed for the search index snapshot replay
+                internship.setUpdatedAt(LocalDateTime.now());
+                eventPublisher.publishEvent(InternshipChangedEvent.saved(internship));
+            }
+        }
+        return saved;
     }
 
     @Override
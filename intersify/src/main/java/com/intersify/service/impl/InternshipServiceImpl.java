@@ -1,14 +1,25 @@
 package com.intersify.service.impl;
 
+import com.intersify.dto.CursorPageDTO;
 import com.intersify.entity.CompanyProfile;
 import com.intersify.entity.Internship;
 import com.intersify.enums.CompanyStatus;
+import com.intersify.enums.SearchSortField;
 import com.intersify.repository.ApplicationRepository;
 import com.intersify.repository.CompanyProfileRepository;
 import com.intersify.repository.InternshipRepository;
+import com.intersify.search.ApproximateCounts;
+import com.intersify.search.Gazetteer;
+import com.intersify.search.InternshipChangedEvent;
+import com.intersify.search.SearchCursor;
+import com.intersify.search.SearchOrder;
+import com.intersify.search.StipendParser;
 import com.intersify.service.InternshipService;
+import com.intersify.service.SkillNormalizer;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +34,15 @@ public class InternshipServiceImpl implements InternshipService {
     private final InternshipRepository internshipRepo;
     private final CompanyProfileRepository companyRepo;
     private final ApplicationRepository applicationRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillNormalizer skillNormalizer;
+    private final Gazetteer gazetteer;
+    private final ApproximateCounts approximateCounts;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // The public listing pages like a search sorted by recency, newest first
+    private static final String NEWEST_FIRST =
+            SearchCursor.scopeOf(new SearchOrder(SearchSortField.RECENCY, true), false);
 
     @Override
     public Internship createInternship(Long companyId, Internship internship) {
@@ -37,7 +57,12 @@ public class InternshipServiceImpl implements InternshipService {
         }
 
         internship.setCompany(company);
-        return internshipRepo.save(internship);
+        applyStipend(internship);
+        applyPlace(internship);
+        skillNormalizer.apply(internship);
+        Internship saved = internshipRepo.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.saved(saved));
+        return saved;
     }
 
     @Override
@@ -62,10 +87,26 @@ public class InternshipServiceImpl implements InternshipService {
         internship.setDuration(updatedInternship.getDuration());
         internship.setDeadline(updatedInternship.getDeadline());
         internship.setStatus(updatedInternship.getStatus());
+        applyStipend(internship);
+        applyPlace(internship);
+        skillNormalizer.apply(internship);
 
-        return internshipRepo.save(internship);
+        Internship saved = internshipRepo.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.saved(saved));
+        return saved;
     }
     
+    // Keeps the numeric stipend columns in step with the free-text stipend
+    private void applyStipend(Internship internship) {
+        internship.setStipendAmount(StipendParser.parseMonthlyAmount(internship.getStipend()));
+        internship.setStipendCurrency(StipendParser.parseCurrency(internship.getStipend()));
+    }
+
+    // Resolves the free-text location to its gazetteer place, or none
+    private void applyPlace(Internship internship) {
+        internship.setPlaceId(gazetteer.resolve(internship.getLocation()).map(Gazetteer.Place::id).orElse(null));
+    }
+
     @Override
     public List<Internship> getInternshipsByCompany(Long companyId) {
         // 1. Fetch the list
@@ -90,6 +131,7 @@ public class InternshipServiceImpl implements InternshipService {
         }
 
         internshipRepo.delete(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.deleted(internshipId));
     }
 
     @Override
@@ -101,11 +143,36 @@ public class InternshipServiceImpl implements InternshipService {
         return internshipRepo.findAll(); // later add filters
     }
 
+    // Newest first, seeking on the primary key instead of an OFFSET; no count query per page
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<Internship> getPublicInternshipsPage(String cursor, int size, boolean includeTotal) {
+        SearchCursor after = SearchCursor.decode(cursor, NEWEST_FIRST);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Internship> rows = internshipRepo.findByInternshipIdLessThanOrderByInternshipIdDesc(
+                after != null ? after.internshipId() : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        return CursorPageDTO.<Internship>builder()
+                .items(rows)
+                .hasNext(hasNext)
+                .nextCursor(hasNext
+                        ? new SearchCursor(NEWEST_FIRST, null, rows.get(rows.size() - 1).getInternshipId()).encode()
+                        : null)
+                .approximateTotal(includeTotal ? approximateCounts.get("public-internships", internshipRepo::count) : null)
+                .build();
+    }
+
 
 	@Override
 	public void deleteInternship(Long id) {
 		// TODO Auto-generated method stub
 		internshipRepo.deleteById(id);
+		eventPublisher.publishEvent(InternshipChangedEvent.deleted(id));
 	}
 }
 
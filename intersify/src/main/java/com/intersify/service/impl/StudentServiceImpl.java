@@ -3,9 +3,11 @@ package com.intersify.service.impl;
 import com.intersify.dto.StudentProfileDTO;
 import com.intersify.entity.StudentProfile;
 import com.intersify.entity.User;
+import com.intersify.recommendation.StudentSkillsChangedEvent;
 import com.intersify.repository.StudentProfileRepository;
 import com.intersify.repository.UserRepository;
 import com.intersify.service.FileStorageService;
+import com.intersify.service.SkillNormalizer;
 import com.intersify.service.StudentService;
 import lombok.RequiredArgsConstructor;
 
@@ -14,7 +16,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,8 @@ public class StudentServiceImpl implements StudentService {
     private final StudentProfileRepository studentRepo;
     private final UserRepository userRepo;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillNormalizer skillNormalizer;
 
     @Override
     public List<StudentProfile> getAllStudents() {
@@ -81,13 +87,21 @@ public class StudentServiceImpl implements StudentService {
                 .orElseThrow(() -> new RuntimeException("Profile not found"));
 
         // 2. Update ONLY the fields that should be editable
+        String previousSkills = student.getSkills();
         student.setEducation(updatedProfile.getEducation());
         student.setSkills(updatedProfile.getSkills());
+        skillNormalizer.apply(student);
+        boolean skillsChanged = !Objects.equals(previousSkills, student.getSkills());
         student.setBio(updatedProfile.getBio());
         // Note: resumeUrl is usually updated via the specialized upload method
 
         // 3. Save the entity
         studentRepo.save(student);
+
+        // 4. Refresh the student's recommendation vector once the change is committed
+        if (skillsChanged) {
+            eventPublisher.publishEvent(new StudentSkillsChangedEvent(studentId, student.getSkills()));
+        }
     }
 
     @Override
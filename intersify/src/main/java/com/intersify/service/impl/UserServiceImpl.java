@@ -1,6 +1,7 @@
 package com.intersify.service.impl;
 
 import com.intersify.entity.CompanyProfile;
+import com.intersify.entity.Internship;
 import com.intersify.entity.StudentProfile;
 import com.intersify.entity.User;
 import com.intersify.enums.AuthProvider;
@@ -8,9 +9,11 @@ import com.intersify.enums.Role;
 import com.intersify.repository.CompanyProfileRepository;
 import com.intersify.repository.StudentProfileRepository;
 import com.intersify.repository.UserRepository;
+import com.intersify.search.InternshipChangedEvent;
 import com.intersify.service.UserService;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,8 @@ public class UserServiceImpl implements UserService {
     
     private final PasswordEncoder passwordEncoder;
 
+    private final ApplicationEventPublisher eventPublisher;
+
 
     @Override
     public User registerUser(String name, String email, String password, Role role) {
@@ -94,6 +99,14 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long userId) {
 
         User user = getUserById(userId);
+
+        // Internships cascade away with the company profile
+        CompanyProfile company = user.getCompanyProfile();
+        if (company != null && company.getInternships() != null) {
+            for (Internship internship : company.getInternships()) {
+                eventPublisher.publishEvent(InternshipChangedEvent.deleted(internship.getInternshipId()));
+            }
+        }
         userRepository.delete(user);
     }
 
@@ -0,0 +1,198 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactBitmapTest {
+
+    // Values are grouped by their high 16 bits; these straddle the first two group boundaries
+    private static final int[] EDGES = {0, 1, 65534, 65535, 65536, 65537, 131071, 131072};
+
+    @Test
+    void switchesToBitmapContainerAboveArrayLimitAndBack() {
+        CompactBitmap bitmap = new CompactBitmap();
+        for (int value = 0; value <= 4096; value++) {
+            bitmap.add(value * 2);
+        }
+        assertEquals(4097, bitmap.cardinality());
+        assertTrue(bitmap.contains(8192));
+        assertFalse(bitmap.contains(8191));
+
+        bitmap.remove(8192);
+        bitmap.remove(0);
+        assertEquals(4095, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(2));
+        assertTrue(bitmap.contains(8190));
+
+        BitSet expected = new BitSet();
+        for (int value = 2; value <= 8190; value += 2) {
+            expected.set(value);
+        }
+        assertEquals(expected, reference(bitmap));
+    }
+
+    @Test
+    void addingExistingValueOrRemovingMissingOneChangesNothing() {
+        CompactBitmap bitmap = of(5, 70000);
+        bitmap.add(5);
+        bitmap.remove(6);
+        bitmap.remove(200000);
+        assertArrayEquals(new int[] {5, 70000}, bitmap.toArray());
+    }
+
+    @Test
+    void removingLastValueOfGroupDropsIt() {
+        CompactBitmap bitmap = of(65535, 65536);
+        bitmap.remove(65536);
+        assertArrayEquals(new int[] {65535}, bitmap.toArray());
+        bitmap.remove(65535);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void keepsValuesAcrossGroupBoundaries() {
+        CompactBitmap bitmap = of(EDGES);
+        assertArrayEquals(EDGES, bitmap.toArray());
+        for (int value : EDGES) {
+            assertTrue(bitmap.contains(value));
+        }
+        assertFalse(bitmap.contains(65538));
+    }
+
+    @Test
+    void setOperationsAcrossGroupBoundaries() {
+        CompactBitmap evens = of(0, 65534, 65536, 131072);
+        CompactBitmap edges = of(EDGES);
+
+        CompactBitmap and = edges.copy();
+        and.and(evens);
+        assertArrayEquals(new int[] {0, 65534, 65536, 131072}, and.toArray());
+
+        CompactBitmap or = of(3, 200000);
+        or.or(edges);
+        assertArrayEquals(new int[] {0, 1, 3, 65534, 65535, 65536, 65537, 131071, 131072, 200000}, or.toArray());
+
+        CompactBitmap andNot = edges.copy();
+        andNot.andNot(evens);
+        assertArrayEquals(new int[] {1, 65535, 65537, 131071}, andNot.toArray());
+
+        assertEquals(4, CompactBitmap.andCardinality(edges, evens));
+    }
+
+    @Test
+    void intersectionWithoutCommonValuesIsEmpty() {
+        CompactBitmap bitmap = of(1, 65536);
+        bitmap.and(of(2, 131072));
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    // Dense groups become bitmap containers and sparse ones stay arrays; every pairing must agree with BitSet
+    @Test
+    void setOperationsMatchBitSetForMixedContainers() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            BitSet left = randomSet(random);
+            BitSet right = randomSet(random);
+
+            CompactBitmap and = of(left);
+            and.and(of(right));
+            BitSet expectedAnd = (BitSet) left.clone();
+            expectedAnd.and(right);
+            assertEquals(expectedAnd, reference(and));
+
+            CompactBitmap or = of(left);
+            or.or(of(right));
+            BitSet expectedOr = (BitSet) left.clone();
+            expectedOr.or(right);
+            assertEquals(expectedOr, reference(or));
+
+            CompactBitmap andNot = of(left);
+            andNot.andNot(of(right));
+            BitSet expectedAndNot = (BitSet) left.clone();
+            expectedAndNot.andNot(right);
+            assertEquals(expectedAndNot, reference(andNot));
+            assertEquals(expectedAndNot.cardinality(), andNot.cardinality());
+
+            assertEquals(expectedAnd.cardinality(), CompactBitmap.andCardinality(of(left), of(right)));
+        }
+    }
+
+    // Unsorted values with duplicates, spread so that both container kinds come out of the bulk build
+    @Test
+    void bulkBuildFromUnsortedValuesMatchesAddingOneByOne() {
+        Random random = new Random(7);
+        for (int round = 0; round < 10; round++) {
+            BitSet expected = randomSet(random);
+            int[] values = expected.stream().toArray();
+            for (int i = values.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+            int[] withDuplicates = Arrays.copyOf(values, values.length + 3);
+            for (int i = values.length; i < withDuplicates.length && values.length > 0; i++) {
+                withDuplicates[i] = values[random.nextInt(values.length)];
+            }
+
+            CompactBitmap bitmap = CompactBitmap.of(withDuplicates, values.length > 0 ? withDuplicates.length : 0);
+            assertEquals(expected, reference(bitmap));
+            assertEquals(expected.cardinality(), bitmap.cardinality());
+            bitmap.add(200000);
+            bitmap.remove(values.length > 0 ? values[0] : 0);
+            assertTrue(bitmap.contains(200000));
+        }
+        assertTrue(CompactBitmap.of(new int[] {5, 6}, 0).isEmpty());
+        assertArrayEquals(new int[] {1, 65536}, CompactBitmap.of(new int[] {65536, 1, 65536, 9}, 3).toArray());
+    }
+
+    @Test
+    void copyIsIndependent() {
+        CompactBitmap original = of(1, 65536);
+        CompactBitmap copy = original.copy();
+        copy.add(2);
+        copy.remove(65536);
+        assertArrayEquals(new int[] {1, 65536}, original.toArray());
+        assertArrayEquals(new int[] {1, 2}, copy.toArray());
+    }
+
+    // Three groups, each either sparse (array container) or dense (bitmap container)
+    private static BitSet randomSet(Random random) {
+        BitSet set = new BitSet();
+        for (int group = 0; group < 3; group++) {
+            int count = random.nextBoolean() ? random.nextInt(100) : 4000 + random.nextInt(8000);
+            for (int i = 0; i < count; i++) {
+                set.set(group * 65536 + random.nextInt(65536));
+            }
+        }
+        return set;
+    }
+
+    private static CompactBitmap of(int... values) {
+        CompactBitmap bitmap = new CompactBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    private static CompactBitmap of(BitSet set) {
+        return of(set.stream().toArray());
+    }
+
+    private static BitSet reference(CompactBitmap bitmap) {
+        BitSet set = new BitSet();
+        bitmap.forEach(set::set);
+        return set;
+    }
+}
@@ -0,0 +1,69 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GazetteerTest {
+
+    private final Gazetteer gazetteer = new Gazetteer();
+
+    @Test
+    void resolvesNamesAndAliasesInFreeText() {
+        assertEquals(Optional.of("bengaluru"), placeId("Bangalore, India"));
+        assertEquals(Optional.of("bengaluru"), placeId("Remote / Bengaluru"));
+        assertEquals(Optional.of("mumbai"), placeId("BOMBAY"));
+        assertEquals(Optional.of("gurugram"), placeId("Gurgaon (Hybrid)"));
+        assertEquals(Optional.of("mysuru"), placeId("Mysore"));
+    }
+
+    @Test
+    void theLongestNameWinsThenTheLeftmost() {
+        assertEquals(Optional.of("greater-noida"), placeId("Greater Noida"));
+        assertEquals(Optional.of("navi-mumbai"), placeId("Navi Mumbai, Maharashtra"));
+        assertEquals(Optional.of("pune"), placeId("Pune or Mumbai"));
+    }
+
+    @Test
+    void unknownOrMissingLocationsResolveToNothing() {
+        assertEquals(Optional.empty(), placeId("Remote"));
+        assertEquals(Optional.empty(), placeId("Springfield"));
+        assertEquals(Optional.empty(), placeId("  "));
+        assertEquals(Optional.empty(), placeId(null));
+    }
+
+    @Test
+    void canonicalizeNamesKnownPlacesAndKeepsTheRest() {
+        assertEquals("Bengaluru", gazetteer.canonicalize("bangalore"));
+        assertEquals("Navi Mumbai", gazetteer.canonicalize("navi mumbai"));
+        assertEquals("Work from home", gazetteer.canonicalize("Work from home"));
+        assertNull(gazetteer.canonicalize(null));
+    }
+
+    @Test
+    void withinFindsThePlacesInsideTheRadius() {
+        Gazetteer.Place mumbai = gazetteer.resolve("Mumbai").orElseThrow();
+
+        List<String> nearby = gazetteer.within(mumbai, 40).stream().map(Gazetteer.Place::id).toList();
+        assertTrue(nearby.containsAll(List.of("mumbai", "navi-mumbai", "thane")));
+        assertFalse(nearby.contains("pune"));
+
+        List<String> close = gazetteer.within(mumbai, 1).stream().map(Gazetteer.Place::id).toList();
+        assertEquals(List.of("mumbai"), close);
+    }
+
+    @Test
+    void placeKeysAreTheNormalisedName() {
+        assertEquals("navi mumbai", gazetteer.resolve("Navi Mumbai").orElseThrow().key());
+    }
+
+    private Optional<String> placeId(String location) {
+        return gazetteer.resolve(location).map(Gazetteer.Place::id);
+    }
+}
@@ -0,0 +1,163 @@
+package com.intersify.search;
+
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.entity.CompanyProfile;
+import com.intersify.entity.Internship;
+import com.intersify.enums.SearchSortField;
+import com.intersify.repository.CompanyProfileRepository;
+import com.intersify.repository.InternshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Filters and ranking of the index on its own; InternshipFiltersTest checks its filters against the database
+class InternshipSearchIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @TempDir
+    Path snapshots;
+
+    private final Gazetteer gazetteer = new Gazetteer();
+    private final List<Internship> internships = new ArrayList<>();
+    private CompanyDirectory companyDirectory;
+    private InternshipSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        CompanyProfile acme = company(1L, "Acme", "Software");
+        CompanyProfile globex = company(2L, "Globex", "Finance");
+        add(acme, "Bangalore, India", "15,000/month", "java, spring", "3 months", TODAY.plusDays(10));
+        add(acme, "Bengaluru", "$1500/month", "java", "6 Months", TODAY.minusDays(1));
+        add(globex, "Remote", "Unpaid", "python", "3 months", TODAY);
+        add(globex, "Remote / Mumbai", "8000", "python, sql", "2 months", TODAY.plusDays(30));
+        add(acme, "Pune, India", null, "sql", "3 months", null);
+        add(globex, "Mysore", "20k", "java, sql", "6 months", TODAY.plusDays(5));
+        add(acme, "Thane", "€900", "spring", "3 Months", TODAY.plusDays(3));
+        add(globex, "Navi Mumbai", "12000/month", "java", "1 month", TODAY.minusDays(20));
+        add(acme, "Springfield", "5000", "python", "3 months", TODAY.plusDays(1));
+        add(globex, "Work from home", "10k", "sql, java", "2 months", TODAY.plusDays(2));
+
+        CompanyProfileRepository companyRepository = mock(CompanyProfileRepository.class);
+        when(companyRepository.findAllEntries()).thenReturn(List.of(
+                new CompanyEntry(1L, "Acme", "Software"), new CompanyEntry(2L, "Globex", "Finance")));
+        companyDirectory = new CompanyDirectory(companyRepository);
+        companyDirectory.load();
+
+        InternshipRepository repository = mock(InternshipRepository.class);
+        when(repository.findByInternshipIdGreaterThanOrderByInternshipIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(internships);
+        index = new InternshipSearchIndex(repository, mock(ApplicationEventPublisher.class),
+                new IndexSnapshotStore(snapshots.resolve("index.snap").toString()), gazetteer, companyDirectory);
+        index.rebuild();
+    }
+
+    @Test
+    void substringFallbackMatchesLocationsAsWritten() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setLocation("india");
+
+        assertEquals(List.of(1L, 5L), indexIds(prepare(request)));
+    }
+
+    @Test
+    void radiusFilterMatchesEveryPlaceWithinIt() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setLocation("Mumbai");
+        request.setRadiusKm(40.0);
+
+        assertEquals(List.of(4L, 7L, 8L), indexIds(prepare(request)));
+    }
+
+    @Test
+    void relevanceRanksBoostedAndShorterFieldsFirst() {
+        // "spring" is a skill of 1 and 7, the whole skill list of 7, and only a location prefix of 9
+        assertEquals(List.of(7L, 1L, 9L), relevanceIds("spring", null, 10));
+    }
+
+    @Test
+    void relevanceRanksTitleMatchesAboveSkillMatches() {
+        internships.get(5).setTitle("SQL Analyst");
+        index.rebuild();
+
+        // Equal scores fall back to ascending id
+        assertEquals(List.of(6L, 5L, 4L, 10L), relevanceIds("sql", null, 10));
+    }
+
+    @Test
+    void relevanceCursorContinuesWhereThePageEnded() {
+        SearchOrder order = new SearchOrder(SearchSortField.RELEVANCE, true);
+        IndexSearchResult first = index.search(keyword("sql"), order, null, 2, new SearchTimings());
+        int last = first.ids().size() - 1;
+        SearchCursor after = new SearchCursor(SearchCursor.scopeOf(order, true), first.keys().get(last),
+                first.ids().get(last));
+
+        List<Long> pages = new ArrayList<>(first.ids());
+        pages.addAll(relevanceIds("sql", after, 10));
+
+        assertEquals(relevanceIds("sql", null, 10), pages);
+        assertEquals(4, pages.size());
+    }
+
+    private List<Long> relevanceIds(String keyword, SearchCursor after, int limit) {
+        return index.search(keyword(keyword), new SearchOrder(SearchSortField.RELEVANCE, true), after, limit,
+                new SearchTimings()).ids();
+    }
+
+    private static SearchRequestDTO keyword(String keyword) {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setKeyword(keyword);
+        return request;
+    }
+
+    // What SearchService does to a request before either path sees it
+    private SearchRequestDTO prepare(SearchRequestDTO request) {
+        request.setLocation(gazetteer.canonicalize(request.getLocation()));
+        request.setStipendCurrency(StipendParser.requestedCurrency(request.getStipendCurrency()));
+        return request;
+    }
+
+    private List<Long> indexIds(SearchRequestDTO request) {
+        return index.search(request, new SearchOrder(SearchSortField.RECENCY, false), null, 100,
+                new SearchTimings()).ids();
+    }
+
+    private static CompanyProfile company(Long companyId, String companyName, String industry) {
+        CompanyProfile company = new CompanyProfile();
+        company.setCompanyId(companyId);
+        company.setCompanyName(companyName);
+        company.setIndustry(industry);
+        return company;
+    }
+
+    // Stored the way InternshipServiceImpl saves a posting
+    private void add(CompanyProfile company, String location, String stipend, String skills, String duration,
+            LocalDate deadline) {
+        Internship internship = new Internship();
+        internship.setInternshipId(internships.size() + 1L);
+        internship.setCompany(company);
+        internship.setTitle("Intern " + (internships.size() + 1));
+        internship.setLocation(location);
+        internship.setPlaceId(gazetteer.resolve(location).map(Gazetteer.Place::id).orElse(null));
+        internship.setStipend(stipend);
+        internship.setStipendAmount(StipendParser.parseMonthlyAmount(stipend));
+        internship.setStipendCurrency(StipendParser.parseCurrency(stipend));
+        internship.setSkillsRequired(skills);
+        internship.setDuration(duration);
+        internship.setDeadline(deadline);
+        internships.add(internship);
+    }
+}
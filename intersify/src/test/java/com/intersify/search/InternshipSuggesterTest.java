@@ -0,0 +1,76 @@
+package com.intersify.search;
+
+import com.intersify.dto.SuggestionDTO;
+import com.intersify.enums.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InternshipSuggesterTest {
+
+    private final InternshipSuggester suggester = new InternshipSuggester();
+
+    @BeforeEach
+    void setUp() {
+        suggester.onIndexRebuilt(new InternshipIndexRebuiltEvent(List.of(
+                document(1L, "Java Backend Intern", "Acme Labs", "Bangalore", "Java, SQL"),
+                document(2L, "Backend Developer", "Globex", "Bangalore", "java, Spring, JAVA"),
+                document(3L, "Data Analyst", "Acme Labs", "Pune", "Python, SQL"))));
+    }
+
+    @Test
+    void titlesAreSuggestedFromInnerWords() {
+        assertEquals(List.of(new SuggestionDTO("Java Backend Intern", SuggestionType.TITLE, 1)),
+                suggester.suggest("int", SuggestionType.TITLE, 5));
+        assertEquals(List.of("Backend Developer", "Java Backend Intern"),
+                texts(suggester.suggest("back", SuggestionType.TITLE, 5)));
+    }
+
+    @Test
+    void valuesAreWeightedByThePostingsCarryingThem() {
+        // A skill repeated within a posting counts once
+        assertEquals(List.of(new SuggestionDTO("Java", SuggestionType.SKILL, 2)),
+                suggester.suggest("jav", SuggestionType.SKILL, 5));
+        assertEquals(List.of(new SuggestionDTO("Bangalore", SuggestionType.LOCATION, 2)),
+                suggester.suggest("ban", SuggestionType.LOCATION, 5));
+        assertEquals(List.of(new SuggestionDTO("Acme Labs", SuggestionType.COMPANY, 2)),
+                suggester.suggest("labs", SuggestionType.COMPANY, 5));
+    }
+
+    @Test
+    void everyTypeIsSearchedWhenNoneIsGiven() {
+        List<SuggestionDTO> suggestions = suggester.suggest("ja", null, 10);
+
+        assertEquals(List.of(new SuggestionDTO("Java", SuggestionType.SKILL, 2),
+                new SuggestionDTO("Java Backend Intern", SuggestionType.TITLE, 1)), suggestions);
+        assertEquals(1, suggester.suggest("ja", null, 1).size());
+        assertEquals(List.of(), suggester.suggest("  ", null, 10));
+    }
+
+    @Test
+    void updatesMoveTheWeights() {
+        suggester.onInternshipIndexed(new InternshipIndexedEvent(
+                document(3L, "Data Analyst", "Acme Labs", "Pune", "Python, SQL"),
+                document(3L, "Data Engineer", "Acme Labs", "Pune", "Python, SQL")));
+        suggester.onInternshipIndexed(new InternshipIndexedEvent(
+                document(2L, "Backend Developer", "Globex", "Bangalore", "java, Spring, JAVA"), null));
+
+        assertEquals(List.of("Data Engineer"), texts(suggester.suggest("data", SuggestionType.TITLE, 5)));
+        assertEquals(List.of(new SuggestionDTO("Java", SuggestionType.SKILL, 1)),
+                suggester.suggest("jav", SuggestionType.SKILL, 5));
+        assertEquals(List.of(), suggester.suggest("glob", SuggestionType.COMPANY, 5));
+    }
+
+    private static List<String> texts(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getText).toList();
+    }
+
+    private static InternshipDocument document(Long internshipId, String title, String companyName, String location,
+            String skills) {
+        return new InternshipDocument(internshipId, 1L, title, companyName, location, null, null, null, skills,
+                "3 months", null);
+    }
+}
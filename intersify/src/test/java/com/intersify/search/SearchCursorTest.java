@@ -0,0 +1,94 @@
+package com.intersify.search;
+
+import com.intersify.enums.SearchSortField;
+import com.intersify.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCursorTest {
+
+    private static final String DEADLINE_ASC =
+            SearchCursor.scopeOf(new SearchOrder(SearchSortField.DEADLINE, false), true);
+
+    @Test
+    void roundTripsKeyAndId() {
+        SearchCursor cursor = new SearchCursor(DEADLINE_ASC, 20000L, 42L);
+        assertEquals(cursor, SearchCursor.decode(cursor.encode(), DEADLINE_ASC));
+    }
+
+    @Test
+    void roundTripsMissingKey() {
+        SearchCursor cursor = new SearchCursor(DEADLINE_ASC, null, 7L);
+        assertEquals(cursor, SearchCursor.decode(cursor.encode(), DEADLINE_ASC));
+    }
+
+    // Deadline keys are epoch days, negative before 1970
+    @Test
+    void roundTripsNegativeAndExtremeKeys() {
+        for (long key : new long[] {-1L, -19000L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            SearchCursor cursor = new SearchCursor(DEADLINE_ASC, key, Long.MAX_VALUE);
+            assertEquals(cursor, SearchCursor.decode(cursor.encode(), DEADLINE_ASC));
+        }
+    }
+
+    @Test
+    void toleratesSurroundingWhitespace() {
+        SearchCursor cursor = new SearchCursor(DEADLINE_ASC, 5L, 3L);
+        assertEquals(cursor, SearchCursor.decode(" " + cursor.encode() + "\n", DEADLINE_ASC));
+    }
+
+    @Test
+    void nullOrBlankTokenMeansFirstPage() {
+        assertNull(SearchCursor.decode(null, DEADLINE_ASC));
+        assertNull(SearchCursor.decode("", DEADLINE_ASC));
+        assertNull(SearchCursor.decode("   ", DEADLINE_ASC));
+    }
+
+    @Test
+    void scopeNamesFieldAndDirection() {
+        assertEquals("deadline-asc", DEADLINE_ASC);
+        assertEquals("stipend-desc", SearchCursor.scopeOf(new SearchOrder(SearchSortField.STIPEND, true), false));
+        assertEquals(SearchCursor.scopeOf(new SearchOrder(SearchSortField.RECENCY, true), true),
+                SearchCursor.scopeOf(new SearchOrder(SearchSortField.RECENCY, true), false));
+    }
+
+    // Index relevance keys are score bits; the database has no scores and orders by id
+    @Test
+    void relevanceScopeDependsOnPath() {
+        SearchOrder relevance = new SearchOrder(SearchSortField.RELEVANCE, true);
+        assertNotEquals(SearchCursor.scopeOf(relevance, true), SearchCursor.scopeOf(relevance, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"deadline-desc", "stipend-asc", "relevance-desc-index", "recency-asc"})
+    void rejectsCursorOfAnotherOrder(String scope) {
+        String token = new SearchCursor(DEADLINE_ASC, 20000L, 42L).encode();
+        assertThrows(InvalidRequestException.class, () -> SearchCursor.decode(token, scope));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor!", "%%%", "a+b/c"})
+    void rejectsTokensThatAreNotBase64(String token) {
+        assertThrows(InvalidRequestException.class, () -> SearchCursor.decode(token, DEADLINE_ASC));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"5", "12:34", "deadline-asc:abc:1", "deadline-asc:1:", "deadline-asc:1:x",
+        "deadline-asc::", "deadline-asc:1:2:3"})
+    void rejectsMalformedContents(String raw) {
+        assertThrows(InvalidRequestException.class, () -> SearchCursor.decode(encoded(raw), DEADLINE_ASC));
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
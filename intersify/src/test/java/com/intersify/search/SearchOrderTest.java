@@ -0,0 +1,55 @@
+package com.intersify.search;
+
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.enums.SearchMatchMode;
+import com.intersify.enums.SearchSortField;
+import com.intersify.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchOrderTest {
+
+    @Test
+    void keywordSearchWithoutSortByRanksByRelevance() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setKeyword("jaav");
+        request.setMatchMode(SearchMatchMode.FUZZY);
+        assertEquals(new SearchOrder(SearchSortField.RELEVANCE, true), SearchOrder.of(request));
+    }
+
+    @Test
+    void filterOnlySearchWithoutSortByOrdersByDeadline() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setKeyword("  ");
+        assertEquals(new SearchOrder(SearchSortField.DEADLINE, false), SearchOrder.of(request));
+    }
+
+    @Test
+    void explicitSortByWinsOverKeyword() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setKeyword("java");
+        request.setSortBy(" stipend ");
+        request.setSortDirection("desc");
+        assertEquals(new SearchOrder(SearchSortField.STIPEND, true), SearchOrder.of(request));
+    }
+
+    @Test
+    void recencyDefaultsToNewestFirstAndRelevanceIsAlwaysBestFirst() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setSortBy("recency");
+        assertEquals(new SearchOrder(SearchSortField.RECENCY, true), SearchOrder.of(request));
+
+        request.setSortBy("relevance");
+        request.setSortDirection("asc");
+        assertEquals(new SearchOrder(SearchSortField.RELEVANCE, true), SearchOrder.of(request));
+    }
+
+    @Test
+    void rejectsUnknownSortBy() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setSortBy("popularity");
+        assertThrows(InvalidRequestException.class, () -> SearchOrder.of(request));
+    }
+}
@@ -0,0 +1,92 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SortedValueIndexTest {
+
+    // Keys are packed into the signed high half of a long, so the extremes must still sort and bound correctly
+    private static final int[] KEYS = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE};
+    private static final int[] ORDINALS = {0, 1, 2, 3, Integer.MAX_VALUE, 5};
+
+    @Test
+    void keepsEntriesInKeyThenOrdinalOrder() {
+        SortedValueIndex index = loaded();
+        int[] keys = new int[index.size()];
+        int[] ordinals = new int[index.size()];
+        for (int i = 0; i < index.size(); i++) {
+            keys[i] = index.keyAt(i);
+            ordinals[i] = index.ordinalAt(i);
+        }
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}, keys);
+        assertArrayEquals(new int[] {2, 5, 3, 1, Integer.MAX_VALUE, 0}, ordinals);
+    }
+
+    @Test
+    void rangesAtPackedKeyExtremes() {
+        SortedValueIndex index = loaded();
+        assertArrayEquals(new int[] {2, 5}, index.range(Integer.MIN_VALUE, Integer.MIN_VALUE).toArray());
+        assertArrayEquals(new int[] {0}, index.range(Integer.MAX_VALUE, Integer.MAX_VALUE).toArray());
+        assertArrayEquals(new int[] {2, 3, 5}, index.range(null, -1).toArray());
+        assertArrayEquals(new int[] {0, 1, Integer.MAX_VALUE}, index.range(0, null).toArray());
+        assertArrayEquals(new int[] {1, 3}, index.range(-1, 0).toArray());
+        assertArrayEquals(new int[] {0, 1, 2, 3, 5, Integer.MAX_VALUE}, index.range(null, null).toArray());
+        assertEquals(0, index.range(2, Integer.MAX_VALUE - 1).cardinality());
+        assertEquals(0, index.range(1, 0).cardinality());
+    }
+
+    @Test
+    void boundsAtPackedKeyExtremes() {
+        SortedValueIndex index = loaded();
+        assertEquals(0, index.lowerBound(Integer.MIN_VALUE));
+        assertEquals(2, index.upperBound(Integer.MIN_VALUE));
+        assertEquals(5, index.lowerBound(Integer.MAX_VALUE));
+        assertEquals(6, index.upperBound(Integer.MAX_VALUE));
+        assertEquals(3, index.lowerBound(0));
+        assertEquals(4, index.upperBound(0));
+        assertEquals(5, index.lowerBound(2));
+    }
+
+    @Test
+    void incrementalAddsMatchBulkLoad() {
+        SortedValueIndex added = new SortedValueIndex();
+        for (int i = 0; i < KEYS.length; i++) {
+            added.add(KEYS[i], ORDINALS[i]);
+        }
+        added.add(KEYS[0], ORDINALS[0]);
+        SortedValueIndex loaded = loaded();
+        assertEquals(loaded.size(), added.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals(loaded.keyAt(i), added.keyAt(i));
+            assertEquals(loaded.ordinalAt(i), added.ordinalAt(i));
+        }
+    }
+
+    @Test
+    void removesOnlyTheGivenEntry() {
+        SortedValueIndex index = loaded();
+        index.remove(Integer.MIN_VALUE, 5);
+        index.remove(Integer.MAX_VALUE, 1);
+        assertEquals(5, index.size());
+        assertArrayEquals(new int[] {2}, index.range(Integer.MIN_VALUE, Integer.MIN_VALUE).toArray());
+        assertArrayEquals(new int[] {0}, index.range(Integer.MAX_VALUE, null).toArray());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        SortedValueIndex index = new SortedValueIndex();
+        for (int ordinal = 0; ordinal < 100; ordinal++) {
+            index.add(100 - ordinal, ordinal);
+        }
+        assertEquals(100, index.size());
+        assertArrayEquals(new int[] {98, 99}, index.range(1, 2).toArray());
+    }
+
+    private static SortedValueIndex loaded() {
+        SortedValueIndex index = new SortedValueIndex();
+        index.load(KEYS.clone(), ORDINALS.clone(), KEYS.length);
+        return index;
+    }
+}
@@ -0,0 +1,83 @@
+package com.intersify.search;
+
+import com.intersify.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StipendParserTest {
+
+    @Test
+    void readsMonthlyAmounts() {
+        assertEquals(15000, StipendParser.parseMonthlyAmount("15,000/month"));
+        assertEquals(12000, StipendParser.parseMonthlyAmount("12k"));
+        assertEquals(12500, StipendParser.parseMonthlyAmount("12.5K per month"));
+        assertEquals(8000, StipendParser.parseMonthlyAmount("Rs. 8000"));
+    }
+
+    @Test
+    void convertsWeeklyAndYearlyAmounts() {
+        assertEquals(2167, StipendParser.parseMonthlyAmount("500 per week"));
+        assertEquals(10000, StipendParser.parseMonthlyAmount("120,000 per year"));
+        assertEquals(5000, StipendParser.parseMonthlyAmount("60k per annum"));
+    }
+
+    @Test
+    void readsLakhAmounts() {
+        assertEquals(12500, StipendParser.parseMonthlyAmount("1.5 lakh per annum"));
+        assertEquals(41667, StipendParser.parseMonthlyAmount("5 LPA"));
+        assertEquals(200000, StipendParser.parseMonthlyAmount("2 lakhs/month"));
+        assertEquals(100000, StipendParser.parseMonthlyAmount("1 lac"));
+        assertEquals("INR", StipendParser.parseCurrency("5 LPA"));
+    }
+
+    // The lower bound of a range is what every applicant is guaranteed
+    @Test
+    void readsRangesAsTheirLowerBound() {
+        assertEquals(10000, StipendParser.parseMonthlyAmount("10k-15k"));
+        assertEquals(10000, StipendParser.parseMonthlyAmount("10,000 - 15,000 /month"));
+    }
+
+    @Test
+    void tellsUnpaidFromUnknown() {
+        assertEquals(0, StipendParser.parseMonthlyAmount("Unpaid"));
+        assertNull(StipendParser.parseMonthlyAmount("Performance based"));
+        assertNull(StipendParser.parseMonthlyAmount("  "));
+        assertNull(StipendParser.parseMonthlyAmount(null));
+        assertNull(StipendParser.parseCurrency("Unpaid"));
+    }
+
+    // A paid stipend must never come out as 0, which means unpaid
+    @Test
+    void amountRoundingToNothingIsUnknownRatherThanUnpaid() {
+        assertNull(StipendParser.parseMonthlyAmount("5 per year"));
+        assertNull(StipendParser.parseMonthlyAmount("0.4"));
+        assertEquals("Not disclosed", StipendParser.bucketOf(StipendParser.parseMonthlyAmount("5 per year"), null));
+    }
+
+    @Test
+    void detectsCurrencies() {
+        assertEquals("USD", StipendParser.parseCurrency("$1500/month"));
+        assertEquals("EUR", StipendParser.parseCurrency("900 euros"));
+        assertEquals("GBP", StipendParser.parseCurrency("£800"));
+        assertEquals("INR", StipendParser.parseCurrency("₹15,000"));
+    }
+
+    @Test
+    void bucketsPerCurrency() {
+        assertEquals("Below 5k", StipendParser.bucketOf(4000, "INR"));
+        assertEquals("10k - 20k", StipendParser.bucketOf(15000, "INR"));
+        assertEquals("20k+", StipendParser.bucketOf(41667, "INR"));
+        assertEquals("500 - 1k", StipendParser.bucketOf(900, "EUR"));
+        assertEquals("Unpaid", StipendParser.bucketOf(0, null));
+    }
+
+    @Test
+    void requestedCurrencyDefaultsToRupeesAndRejectsOthers() {
+        assertEquals("INR", StipendParser.requestedCurrency(null));
+        assertEquals("USD", StipendParser.requestedCurrency(" usd "));
+        assertThrows(InvalidRequestException.class, () -> StipendParser.requestedCurrency("JPY"));
+    }
+}
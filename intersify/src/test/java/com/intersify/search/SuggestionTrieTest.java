@@ -0,0 +1,92 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionTrieTest {
+
+    @Test
+    void completesAPrefixHeaviestFirst() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("java", "java", "Java", 3);
+        trie.adjust("javascript", "javascript", "JavaScript", 5);
+        trie.adjust("jakarta", "jakarta", "Jakarta", 1);
+        trie.adjust("python", "python", "Python", 9);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("JavaScript", 5), new SuggestionTrie.Completion("Java", 3),
+                new SuggestionTrie.Completion("Jakarta", 1)), trie.complete("ja", 10));
+        assertEquals(List.of(new SuggestionTrie.Completion("JavaScript", 5)), trie.complete("jav", 1));
+        assertEquals(List.of(), trie.complete("ruby", 10));
+    }
+
+    @Test
+    void equalWeightsAreOrderedByDisplayText() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("sql", "sql", "SQL", 2);
+        trie.adjust("spring", "spring", "Spring", 2);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("SQL", 2), new SuggestionTrie.Completion("Spring", 2)),
+                trie.complete("s", 10));
+    }
+
+    @Test
+    void phrasesSharingAKeyAreKeptApart() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("intern", "java intern", "Java Intern", 1);
+        trie.adjust("intern", "python intern", "Python Intern", 2);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("Python Intern", 2),
+                new SuggestionTrie.Completion("Java Intern", 1)), trie.complete("int", 10));
+    }
+
+    @Test
+    void aPhraseKeepsTheDisplayTextItWasFirstStoredWith() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("java", "java", "Java", 1);
+        trie.adjust("java", "java", "JAVA", 1);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("Java", 2)), trie.complete("j", 10));
+    }
+
+    @Test
+    void droppingAWeightToZeroRemovesThePhrase() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("java", "java", "Java", 2);
+        trie.adjust("jakarta", "jakarta", "Jakarta", 1);
+
+        trie.adjust("java", "java", "Java", -2);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("Jakarta", 1)), trie.complete("ja", 10));
+        assertEquals(List.of(), trie.complete("jav", 10));
+    }
+
+    // Each node caches only the best completions; lowering one must let the next best through
+    @Test
+    void cachedCompletionsFollowWeightChanges() {
+        SuggestionTrie trie = new SuggestionTrie(2);
+        trie.adjust("alpha", "alpha", "Alpha", 3);
+        trie.adjust("amber", "amber", "Amber", 2);
+        trie.adjust("azure", "azure", "Azure", 1);
+        assertEquals(List.of(new SuggestionTrie.Completion("Alpha", 3), new SuggestionTrie.Completion("Amber", 2)),
+                trie.complete("a", 10));
+
+        trie.adjust("alpha", "alpha", "Alpha", -3);
+        trie.adjust("azure", "azure", "Azure", 4);
+
+        assertEquals(List.of(new SuggestionTrie.Completion("Azure", 5), new SuggestionTrie.Completion("Amber", 2)),
+                trie.complete("a", 10));
+    }
+
+    @Test
+    void clearForgetsEveryPhrase() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.adjust("java", "java", "Java", 1);
+
+        trie.clear();
+
+        assertEquals(List.of(), trie.complete("j", 10));
+    }
+}
@@ -0,0 +1,47 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopKCounterTest {
+
+    @Test
+    void keepsTheMostFrequentKeysInCountOrder() {
+        TopKCounter counter = new TopKCounter(2);
+        counter.adjust("java", 3);
+        counter.adjust("sql", 1);
+        counter.adjust("python", 2);
+
+        assertEquals(List.of("java", "python"), counter.top());
+    }
+
+    @Test
+    void readsReflectUpdatesMadeSinceTheLastRead() {
+        TopKCounter counter = new TopKCounter(2);
+        counter.adjust("java", 2);
+        counter.adjust("sql", 1);
+        assertEquals(List.of("java", "sql"), counter.top());
+
+        counter.adjust("sql", 2);
+        counter.adjust("java", -2);
+        counter.adjust("python", 1);
+
+        assertEquals(List.of("sql", "python"), counter.top());
+    }
+
+    @Test
+    void tiesAreBrokenByKeyAndClearEmptiesTheTop() {
+        TopKCounter counter = new TopKCounter(3);
+        counter.adjust("sql", 1);
+        counter.adjust("java", 1);
+        counter.adjust("cobol", -1);
+        assertEquals(List.of("java", "sql"), counter.top());
+
+        counter.clear();
+
+        assertEquals(List.of(), counter.top());
+    }
+}
@@ -0,0 +1,97 @@
+package com.intersify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        for (String term : List.of("java", "javascript", "python", "spring", "sql", "kotlin")) {
+            index.add(term);
+        }
+    }
+
+    @Test
+    void editDistanceCountsAdjacentTranspositionAsOneEdit() {
+        assertEquals(1, TrigramIndex.editDistance("jaav", "java", 2));
+        assertEquals(1, TrigramIndex.editDistance("pyhton", "python", 2));
+        assertEquals(0, TrigramIndex.editDistance("java", "java", 2));
+    }
+
+    @Test
+    void editDistanceWithinBoundIsExact() {
+        assertEquals(1, TrigramIndex.editDistance("sprng", "spring", 2));
+        assertEquals(2, TrigramIndex.editDistance("kotln", "kotlinx", 2));
+        assertEquals(2, TrigramIndex.editDistance("sqlx", "spl", 2));
+        assertEquals(2, TrigramIndex.editDistance("ja", "java", 2));
+    }
+
+    // Past the bound the exact distance no longer matters, only that it is over
+    @Test
+    void editDistanceStopsOneOverTheBound() {
+        assertEquals(2, TrigramIndex.editDistance("abc", "xyz", 1));
+        assertEquals(3, TrigramIndex.editDistance("kotlin", "python", 2));
+    }
+
+    @Test
+    void editDistanceExitsEarlyOnLengthDifference() {
+        assertEquals(2, TrigramIndex.editDistance("ja", "java", 1));
+        assertEquals(3, TrigramIndex.editDistance("java", "javascript", 2));
+    }
+
+    @Test
+    void matchesTransposedShortToken() {
+        assertTrue(index.match("jaav").containsKey("java"));
+    }
+
+    @Test
+    void allowsOneEditUpToFiveCharactersAndTwoFromSix() {
+        assertTrue(index.match("sprng").containsKey("spring"));
+        assertFalse(index.match("sptng").containsKey("spring"));
+        assertTrue(index.match("javscrpt").containsKey("javascript"));
+        assertFalse(index.match("jvscrpt").containsKey("javascript"));
+    }
+
+    @Test
+    void matchesTypoInPrefixOfLongerTerm() {
+        assertTrue(index.match("pyht").containsKey("python"));
+        assertTrue(index.match("javsa").containsKey("javascript"));
+    }
+
+    @Test
+    void matchesSubstringsAndScoresExactTermHighest() {
+        Map<String, Float> matches = index.match("java");
+        assertTrue(matches.containsKey("javascript"));
+        assertEquals(1.0f, matches.get("java"), 0.0f);
+        assertTrue(matches.get("javascript") < matches.get("java"));
+    }
+
+    @Test
+    void removedTermNoLongerMatches() {
+        index.remove("java");
+        Map<String, Float> matches = index.match("java");
+        assertFalse(matches.containsKey("java"));
+        assertTrue(matches.containsKey("javascript"));
+
+        index.clear();
+        assertTrue(index.match("javascript").isEmpty());
+    }
+
+    @Test
+    void trigramsArePaddedAtBothEnds() {
+        assertEquals(List.of("$$s", "$sq", "sql", "ql$"), List.copyOf(TrigramIndex.trigrams("sql")));
+        assertEquals(Set.of("$$a", "$a$"), TrigramIndex.trigrams("a"));
+    }
+}
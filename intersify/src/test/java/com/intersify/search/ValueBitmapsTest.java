@@ -0,0 +1,94 @@
+package com.intersify.search;
+
+import com.intersify.dto.FacetCountDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueBitmapsTest {
+
+    @Test
+    void getReturnsOrdinalsOfExactValue() {
+        ValueBitmaps values = sample();
+        assertArrayEquals(new int[] {0, 2, 70000}, values.get("bengaluru").toArray());
+        assertTrue(values.get("Bengaluru").isEmpty());
+        assertTrue(values.get("chennai").isEmpty());
+    }
+
+    @Test
+    void ignoresEmptyValues() {
+        ValueBitmaps values = new ValueBitmaps();
+        values.add("", 1);
+        assertTrue(values.get("").isEmpty());
+        assertTrue(values.counts(all(), 10).isEmpty());
+    }
+
+    @Test
+    void removeDropsValueOnceItHasNoOrdinals() {
+        ValueBitmaps values = sample();
+        values.remove("pune", 1);
+        values.remove("mumbai", 99);
+        assertTrue(values.get("pune").isEmpty());
+        assertEquals(List.of("bengaluru", "mumbai"), names(values.counts(all(), 10)));
+    }
+
+    @Test
+    void unionCoversEveryAcceptedValue() {
+        ValueBitmaps values = sample();
+        assertArrayEquals(new int[] {0, 1, 2, 70000}, values.union(value -> !value.equals("mumbai")).toArray());
+        assertTrue(values.union(value -> false).isEmpty());
+    }
+
+    @Test
+    void countsWithinMatchesHighestFirstThenByValue() {
+        ValueBitmaps values = sample();
+        CompactBitmap matches = new CompactBitmap();
+        matches.add(1);
+        matches.add(2);
+        matches.add(3);
+
+        List<FacetCountDTO> counts = values.counts(matches, 10);
+        assertEquals(List.of("bengaluru", "mumbai", "pune"), names(counts));
+        assertEquals(1, counts.get(0).getCount());
+
+        List<FacetCountDTO> all = values.counts(all(), 2);
+        assertEquals(List.of("bengaluru", "mumbai"), names(all));
+        assertEquals(3, all.get(0).getCount());
+        assertEquals(2, all.get(1).getCount());
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        ValueBitmaps values = sample();
+        values.clear();
+        assertTrue(values.counts(all(), 10).isEmpty());
+    }
+
+    // bengaluru: 0, 2, 70000; pune: 1; mumbai: 3, 4
+    private static ValueBitmaps sample() {
+        ValueBitmaps values = new ValueBitmaps();
+        values.add("bengaluru", 0);
+        values.add("pune", 1);
+        values.add("bengaluru", 2);
+        values.add("mumbai", 3);
+        values.add("mumbai", 4);
+        values.add("bengaluru", 70000);
+        return values;
+    }
+
+    private static CompactBitmap all() {
+        CompactBitmap bitmap = new CompactBitmap();
+        for (int ordinal : new int[] {0, 1, 2, 3, 4, 70000}) {
+            bitmap.add(ordinal);
+        }
+        return bitmap;
+    }
+
+    private static List<String> names(List<FacetCountDTO> counts) {
+        return counts.stream().map(FacetCountDTO::getValue).toList();
+    }
+}
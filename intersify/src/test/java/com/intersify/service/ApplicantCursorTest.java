@@ -0,0 +1,42 @@
+package com.intersify.service;
+
+import com.intersify.exception.InvalidRequestException;
+import com.intersify.search.SearchCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApplicantCursorTest {
+
+    @Test
+    void roundTripsInternshipAndApplication() {
+        ApplicantCursor cursor = new ApplicantCursor(12L, 3456L);
+        assertEquals(cursor, ApplicantCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void nullOrBlankTokenMeansFirstPage() {
+        assertNull(ApplicantCursor.decode(null));
+        assertNull(ApplicantCursor.decode(" "));
+    }
+
+    @Test
+    void rejectsSearchCursors() {
+        String token = new SearchCursor("recency-desc", 3456L, 12L).encode();
+        assertThrows(InvalidRequestException.class, () -> ApplicantCursor.decode(token));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String raw : new String[] {"applicants:12", "applicants:12:x", "applicants::5", "other:12:5"}) {
+            String token = Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+            assertThrows(InvalidRequestException.class, () -> ApplicantCursor.decode(token));
+        }
+        assertThrows(InvalidRequestException.class, () -> ApplicantCursor.decode("not a cursor!"));
+    }
+}
@@ -0,0 +1,228 @@
+package com.intersify.service;
+
+import com.intersify.dto.SearchRequestDTO;
+import com.intersify.entity.CompanyProfile;
+import com.intersify.entity.Internship;
+import com.intersify.entity.Skill;
+import com.intersify.entity.User;
+import com.intersify.enums.Role;
+import com.intersify.enums.SearchSortField;
+import com.intersify.repository.InternshipRepository;
+import com.intersify.repository.SkillRepository;
+import com.intersify.search.CompanyDirectory;
+import com.intersify.search.Gazetteer;
+import com.intersify.search.IndexSnapshotStore;
+import com.intersify.search.InternshipSearchIndex;
+import com.intersify.search.SearchOrder;
+import com.intersify.search.SearchTimings;
+import com.intersify.search.StipendParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The index answers filters with bitmaps; SearchService falls back to the InternshipFilters Specification.
+// Both run here over the same rows, on H2 in MySQL mode with case-insensitive strings like MySQL's default
+// collation, and must return the same ids.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:filters;MODE=MySQL;IGNORECASE=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InternshipFilters.class, SkillNormalizer.class, Gazetteer.class, CompanyDirectory.class})
+class InternshipFiltersTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @TempDir
+    Path snapshots;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private InternshipRepository internshipRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private InternshipFilters internshipFilters;
+    @Autowired
+    private SkillNormalizer skillNormalizer;
+    @Autowired
+    private Gazetteer gazetteer;
+    @Autowired
+    private CompanyDirectory companyDirectory;
+
+    private InternshipSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        CompanyProfile acme = company("Acme", "Software");
+        CompanyProfile globex = company("Globex", "Finance");
+        add(acme, "Bangalore, India", "15,000/month", "java, spring", "3 months", TODAY.plusDays(10));
+        add(acme, "Bengaluru", "$1500/month", "java", "6 Months", TODAY.minusDays(1));
+        add(globex, "Remote", "Unpaid", "python", "3 months", TODAY);
+        add(globex, "Remote / Mumbai", "8000", "python, sql", "2 months", TODAY.plusDays(30));
+        add(acme, "Pune, India", null, "sql", "3 months", null);
+        add(globex, "Mysore", "20k", "java, sql", "6 months", TODAY.plusDays(5));
+        add(acme, "Thane", "€900", "spring", "3 Months", TODAY.plusDays(3));
+        add(globex, "Navi Mumbai", "12000/month", "java", "1 month", TODAY.minusDays(20));
+        add(acme, "Springfield", "5000", "python", "3 months", TODAY.plusDays(1));
+        add(globex, "Work from home", "10k", "sql, java", "2 months", TODAY.plusDays(2));
+        entityManager.flush();
+
+        companyDirectory.load();
+        index = new InternshipSearchIndex(internshipRepository, event -> { },
+                new IndexSnapshotStore(snapshots.resolve("index.snap").toString()), gazetteer, companyDirectory);
+        index.rebuild();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"india", "remote", "Bangalore", "bengaluru", "Mumbai", "mysuru", "home", "nowhere"})
+    void locationFilterMatchesTheDatabase(String location) {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setLocation(location);
+
+        assertSameIds(request);
+    }
+
+    @Test
+    void radiusFilterMatchesTheDatabase() {
+        SearchRequestDTO request = new SearchRequestDTO();
+        request.setLocation("Mumbai");
+        request.setRadiusKm(40.0);
+
+        assertEquals(3, assertSameIds(request).size());
+    }
+
+    @Test
+    void structuredFiltersMatchTheDatabase() {
+        Map<String, Consumer<SearchRequestDTO>> cases = new LinkedHashMap<>();
+        cases.put("no filters", request -> { });
+        cases.put("one skill", request -> request.setSkills("java"));
+        cases.put("every skill", request -> request.setSkills("java,sql"));
+        cases.put("unknown skill", request -> request.setSkills("java,cobol"));
+        cases.put("minimum stipend", request -> request.setMinStipend("10000"));
+        cases.put("maximum stipend", request -> request.setMaxStipend("9000"));
+        cases.put("stipend range", request -> {
+            request.setMinStipend("5,000");
+            request.setMaxStipend("12k");
+        });
+        cases.put("stipend in dollars", request -> {
+            request.setMinStipend("0");
+            request.setStipendCurrency("usd");
+        });
+        cases.put("stipend in euros", request -> {
+            request.setMaxStipend("1000");
+            request.setStipendCurrency("EUR");
+        });
+        cases.put("duration", request -> request.setDuration("3 months"));
+        cases.put("active only", request -> request.setActiveOnly(true));
+        cases.put("company", request -> request.setCompanyName("acme"));
+        cases.put("unknown company", request -> request.setCompanyName("Initech"));
+        cases.put("industry", request -> request.setIndustry("Finance"));
+        cases.put("combined", request -> {
+            request.setLocation("Bengaluru");
+            request.setSkills("java");
+            request.setActiveOnly(true);
+            request.setCompanyName("Acme");
+        });
+
+        cases.forEach((name, filters) -> {
+            SearchRequestDTO request = new SearchRequestDTO();
+            filters.accept(request);
+            SearchRequestDTO indexRequest = new SearchRequestDTO();
+            filters.accept(indexRequest);
+            assertEquals(databaseIds(prepare(request)), indexIds(prepare(indexRequest)), name);
+        });
+    }
+
+    private List<Long> assertSameIds(SearchRequestDTO request) {
+        prepare(request);
+        List<Long> ids = indexIds(request);
+        assertEquals(databaseIds(request), ids);
+        return ids;
+    }
+
+    // What SearchService does to a request before either path sees it
+    private SearchRequestDTO prepare(SearchRequestDTO request) {
+        request.setSkills(skillNormalizer.canonicalize(request.getSkills()));
+        request.setLocation(gazetteer.canonicalize(request.getLocation()));
+        request.setStipendCurrency(StipendParser.requestedCurrency(request.getStipendCurrency()));
+        return request;
+    }
+
+    private List<Long> indexIds(SearchRequestDTO request) {
+        return index.search(request, new SearchOrder(SearchSortField.RECENCY, false), null, 100,
+                new SearchTimings()).ids();
+    }
+
+    private List<Long> databaseIds(SearchRequestDTO request) {
+        return internshipRepository.findAll(internshipFilters.of(request), Sort.by("internshipId")).stream()
+                .map(Internship::getInternshipId)
+                .toList();
+    }
+
+    private CompanyProfile company(String companyName, String industry) {
+        User user = new User();
+        user.setName(companyName);
+        user.setEmail(companyName.toLowerCase(Locale.ROOT) + "@example.com");
+        user.setRole(Role.COMPANY);
+        entityManager.persist(user);
+
+        CompanyProfile company = new CompanyProfile();
+        company.setUser(user);
+        company.setCompanyName(companyName);
+        company.setIndustry(industry);
+        return entityManager.persist(company);
+    }
+
+    // Stored the way InternshipServiceImpl saves a posting
+    private void add(CompanyProfile company, String location, String stipend, String skills, String duration,
+            LocalDate deadline) {
+        Internship internship = new Internship();
+        internship.setCompany(company);
+        internship.setTitle("Intern");
+        internship.setLocation(location);
+        internship.setPlaceId(gazetteer.resolve(location).map(Gazetteer.Place::id).orElse(null));
+        internship.setStipend(stipend);
+        internship.setStipendAmount(StipendParser.parseMonthlyAmount(stipend));
+        internship.setStipendCurrency(StipendParser.parseCurrency(stipend));
+        internship.setSkillsRequired(skills);
+        internship.setSkillSet(skillSet(skills));
+        internship.setDuration(duration);
+        internship.setDeadline(deadline);
+        entityManager.persist(internship);
+    }
+
+    // The dictionary rows SkillNormalizer links a posting to, created on first use
+    private Set<Skill> skillSet(String skills) {
+        Set<Skill> skillSet = new LinkedHashSet<>();
+        for (String name : skillNormalizer.canonicalNames(skills)) {
+            skillSet.add(skillRepository.findByName(name)
+                    .orElseGet(() -> entityManager.persist(new Skill(null, name, name))));
+        }
+        return skillSet;
+    }
+}
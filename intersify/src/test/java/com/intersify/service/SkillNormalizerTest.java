@@ -0,0 +1,117 @@
+package com.intersify.service;
+
+import com.intersify.entity.Internship;
+import com.intersify.entity.Skill;
+import com.intersify.entity.SkillAlias;
+import com.intersify.repository.SkillAliasRepository;
+import com.intersify.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SkillNormalizerTest {
+
+    private static final Skill JAVA = new Skill(1L, "java", "Java");
+    private static final Skill JAVASCRIPT = new Skill(2L, "javascript", "JavaScript");
+
+    private final SkillRepository skillRepository = mock(SkillRepository.class);
+    private final SkillAliasRepository aliasRepository = mock(SkillAliasRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SkillNormalizer normalizer =
+            new SkillNormalizer(skillRepository, aliasRepository, transactionTemplate, jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(aliasRepository.findAllBy()).thenReturn(List.of(new SkillAlias("js", JAVASCRIPT)));
+        when(transactionTemplate.getTransactionManager()).thenReturn(mock(PlatformTransactionManager.class));
+        normalizer.loadAliases();
+    }
+
+    @Test
+    void canonicalNamesResolveAliasesAndDropDuplicates() {
+        assertEquals("javascript", normalizer.canonicalName("  JS "));
+        assertEquals("machine learning", normalizer.canonicalName("Machine   Learning"));
+        assertEquals(Set.of(), normalizer.canonicalNames(null));
+        assertEquals(List.of("java", "javascript"),
+                List.copyOf(normalizer.canonicalNames("Java, js, JavaScript, , java")));
+        assertEquals("java,javascript", normalizer.canonicalize("Java, JS"));
+        assertNull(normalizer.canonicalize(null));
+    }
+
+    @Test
+    void findLooksUpExistingSkillsOnly() {
+        when(skillRepository.findByNameIn(Set.of("java"))).thenReturn(List.of(JAVA));
+
+        assertEquals(List.of(JAVA), normalizer.find(Set.of("java")));
+        assertEquals(List.of(), normalizer.find(Set.of()));
+        verify(skillRepository).findByNameIn(Set.of("java"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void applyLinksKnownSkillsWithoutInserting() {
+        when(skillRepository.findByNameIn(any())).thenReturn(List.of(JAVASCRIPT, JAVA));
+        Internship internship = new Internship();
+        internship.setSkillsRequired("java ,JS");
+
+        normalizer.apply(internship);
+
+        assertEquals(List.of(JAVA, JAVASCRIPT), List.copyOf(internship.getSkillSet()));
+        assertEquals("Java, JavaScript", internship.getSkillsRequired());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        verify(skillRepository, never()).findLatestByNameIn(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyInsertsUnseenSkillsInNameOrder() {
+        Skill rust = new Skill(3L, "rust", "Rust");
+        Skill go = new Skill(4L, "go", "Go");
+        when(skillRepository.findByNameIn(any())).thenReturn(List.of(JAVA));
+        when(skillRepository.findLatestByNameIn(any())).thenReturn(List.of(go, rust));
+        Internship internship = new Internship();
+        internship.setSkillsRequired("Rust, Java, Go");
+
+        normalizer.apply(internship);
+
+        ArgumentCaptor<Collection<Map.Entry<String, String>>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO skill"), rows.capture(), eq(2), any());
+        assertEquals(List.of(Map.entry("go", "Go"), Map.entry("rust", "Rust")), List.copyOf(rows.getValue()));
+        assertEquals(List.of(rust, JAVA, go), List.copyOf(internship.getSkillSet()));
+        assertEquals("Rust, Java, Go", internship.getSkillsRequired());
+    }
+
+    @Test
+    void applyLeavesAnEmptyListAlone() {
+        Internship internship = new Internship();
+        internship.setSkillsRequired(" , ");
+
+        normalizer.apply(internship);
+
+        assertEquals(Set.of(), internship.getSkillSet());
+        assertEquals(" , ", internship.getSkillsRequired());
+        verifyNoInteractions(skillRepository);
+    }
+}